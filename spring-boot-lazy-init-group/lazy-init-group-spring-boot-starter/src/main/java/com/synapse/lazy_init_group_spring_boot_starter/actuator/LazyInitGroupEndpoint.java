@@ -0,0 +1,101 @@
+package com.synapse.lazy_init_group_spring_boot_starter.actuator;
+
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupFailureGuard;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupFailureStats;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupInitializationTracker;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupInitializedEvent;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupInitializer;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupRegistry;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupStatus;
+import com.synapse.lazy_init_group_spring_boot_starter.heap.LazyInitGroupHeapAccountant;
+import com.synapse.lazy_init_group_spring_boot_starter.heap.LazyInitGroupHeapEstimate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// /actuator/lazyinitgroups: 그룹별 초기화 상태와 유지 힙 추정치를 지연으로 절감한 메모리가 큰 순서로 노출
+// DELETE /actuator/lazyinitgroups/{name}: 그룹의 초기화 실패 상태를 초기화하여 백오프 없이 바로 재시도
+@Endpoint(id = "lazyinitgroups")
+public class LazyInitGroupEndpoint {
+
+    private final LazyInitGroupRegistry registry;
+
+    private final LazyInitGroupInitializer initializer;
+
+    private final LazyInitGroupInitializationTracker tracker;
+
+    private final ObjectProvider<LazyInitGroupHeapAccountant> heapAccountant;
+
+    private final ObjectProvider<LazyInitGroupFailureGuard> failureGuard;
+
+    public LazyInitGroupEndpoint(LazyInitGroupRegistry registry, LazyInitGroupInitializer initializer,
+                                 LazyInitGroupInitializationTracker tracker,
+                                 ObjectProvider<LazyInitGroupHeapAccountant> heapAccountant,
+                                 ObjectProvider<LazyInitGroupFailureGuard> failureGuard) {
+        this.registry = registry;
+        this.initializer = initializer;
+        this.tracker = tracker;
+        this.heapAccountant = heapAccountant;
+        this.failureGuard = failureGuard;
+    }
+
+    @ReadOperation
+    public Map<String, GroupDescriptor> groups() {
+        Map<String, GroupDescriptor> groups = new LinkedHashMap<>();
+        registry.getGroupNames().stream()
+            .map(this::describe)
+            .sorted(Comparator.comparingDouble(GroupDescriptor::rankingScore).reversed()
+                        .thenComparing(GroupDescriptor::name))
+            .forEach(descriptor -> groups.put(descriptor.name(), descriptor));
+        return groups;
+    }
+
+    @ReadOperation
+    public GroupDescriptor group(@Selector String name) {
+        return registry.containsGroup(name) ? describe(name) : null;
+    }
+
+    @DeleteOperation
+    public Boolean resetFailure(@Selector String name) {
+        LazyInitGroupFailureGuard guard = failureGuard.getIfAvailable();
+        return registry.containsGroup(name) && guard != null ? guard.reset(name) : null;
+    }
+
+    private GroupDescriptor describe(String groupName) {
+        LazyInitGroupInitializedEvent initialization = tracker.getInitialization(groupName);
+        LazyInitGroupHeapAccountant accountant = heapAccountant.getIfAvailable();
+        LazyInitGroupHeapEstimate estimate = accountant != null ? accountant.getEstimate(groupName) : null;
+        LazyInitGroupFailureGuard guard = failureGuard.getIfAvailable();
+        LazyInitGroupFailureStats failures = guard != null ? guard.getStats(groupName) : null;
+
+        return new GroupDescriptor(
+            groupName,
+            initializer.getStatus(groupName),
+            registry.getBeanNames(groupName).size(),
+            initialization != null ? initialization.getInitializationTime().toMillis() : null,
+            initialization != null ? initialization.getInitializedAt() : null,
+            estimate != null ? estimate.retainedBytes() : null,
+            estimate != null ? estimate.truncated() : null,
+            estimate != null ? estimate.delaySinceStartup().toSeconds() : null,
+            estimate != null ? estimate.savedByteMinutes() : null,
+            failures
+        );
+    }
+
+    public record GroupDescriptor(String name, LazyInitGroupStatus status, int beanCount, Long initializationMillis,
+                                  Instant initializedAt, Long retainedBytes, Boolean retainedBytesTruncated,
+                                  Long delaySeconds, Double savedByteMinutes, LazyInitGroupFailureStats failures) {
+
+        // 아직 측정되지 않은 그룹은 뒤로 정렬
+        double rankingScore() {
+            return savedByteMinutes != null ? savedByteMinutes : -1;
+        }
+    }
+}
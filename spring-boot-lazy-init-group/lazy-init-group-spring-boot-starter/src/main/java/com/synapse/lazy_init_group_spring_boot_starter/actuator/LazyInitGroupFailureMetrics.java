@@ -0,0 +1,67 @@
+package com.synapse.lazy_init_group_spring_boot_starter.actuator;
+
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupFailureGuard;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupFailureStats;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.ToDoubleFunction;
+
+// 그룹별 초기화 실패/즉시 실패/재시도/복구 누적 횟수와 연속 실패 수, 다음 재시도까지 남은 시간을 group 태그로 노출
+public class LazyInitGroupFailureMetrics implements MeterBinder {
+
+    private final LazyInitGroupRegistry registry;
+
+    private final LazyInitGroupFailureGuard failureGuard;
+
+    public LazyInitGroupFailureMetrics(LazyInitGroupRegistry registry, LazyInitGroupFailureGuard failureGuard) {
+        this.registry = registry;
+        this.failureGuard = failureGuard;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        for (String groupName : registry.getGroupNames()) {
+            counter(meterRegistry, groupName, "lazy.init.group.failures", "그룹 초기화 실패 횟수",
+                    LazyInitGroupFailureStats::failures);
+            counter(meterRegistry, groupName, "lazy.init.group.fast.failures", "재시도 대기 중 생성 없이 즉시 실패한 호출 수",
+                    LazyInitGroupFailureStats::fastFailures);
+            counter(meterRegistry, groupName, "lazy.init.group.retries", "백오프 후 재시도 횟수",
+                    LazyInitGroupFailureStats::retries);
+            counter(meterRegistry, groupName, "lazy.init.group.recoveries", "실패 후 초기화 복구 횟수",
+                    LazyInitGroupFailureStats::recoveries);
+
+            Gauge.builder("lazy.init.group.consecutive.failures", failureGuard,
+                          guard -> guard.getStats(groupName).consecutiveFailures())
+                .description("현재 연속 실패 횟수")
+                .tag("group", groupName)
+                .register(meterRegistry);
+            Gauge.builder("lazy.init.group.retry.after", failureGuard, guard -> retryAfterSeconds(guard.getStats(groupName)))
+                .description("다음 재시도까지 남은 시간")
+                .baseUnit("seconds")
+                .tag("group", groupName)
+                .register(meterRegistry);
+        }
+    }
+
+    private void counter(MeterRegistry meterRegistry, String groupName, String name, String description,
+                         ToDoubleFunction<LazyInitGroupFailureStats> value) {
+        FunctionCounter.builder(name, failureGuard, guard -> value.applyAsDouble(guard.getStats(groupName)))
+            .description(description)
+            .tag("group", groupName)
+            .register(meterRegistry);
+    }
+
+    private static double retryAfterSeconds(LazyInitGroupFailureStats stats) {
+        if (stats.nextRetryAt() == null) {
+            return 0;
+        }
+        Duration remaining = Duration.between(Instant.now(), stats.nextRetryAt());
+        return remaining.isNegative() ? 0 : remaining.toMillis() / 1000.0;
+    }
+}
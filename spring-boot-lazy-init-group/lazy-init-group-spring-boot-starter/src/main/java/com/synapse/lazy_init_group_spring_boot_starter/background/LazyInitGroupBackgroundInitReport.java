@@ -0,0 +1,12 @@
+package com.synapse.lazy_init_group_spring_boot_starter.background;
+
+import java.time.Duration;
+import java.util.Map;
+
+// backgroundWork: 부트스트랩 스레드에서 백그라운드 그룹 빈 생성에 쓴 시간 (스레드별 구간 합집합)
+// refreshThreadWait: 리프레시 스레드가 다른 빈 생성을 마친 뒤 백그라운드 빈 완료를 기다린 시간
+// criticalPathSaved: 백그라운드 작업 중 리프레시 스레드의 작업과 겹쳐 시작 임계 경로에서 빠진 시간
+public record LazyInitGroupBackgroundInitReport(int beanCount, Map<String, Integer> beanCountByGroup,
+                                                Duration backgroundWork, Duration refreshThreadWait,
+                                                Duration criticalPathSaved) {
+}
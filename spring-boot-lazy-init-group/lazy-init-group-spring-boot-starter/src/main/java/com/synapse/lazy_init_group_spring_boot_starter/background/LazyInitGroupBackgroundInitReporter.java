@@ -0,0 +1,151 @@
+package com.synapse.lazy_init_group_spring_boot_starter.background;
+
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// 백그라운드 그룹 빈과 리프레시 스레드의 빈 생성 구간을 기록하여 리프레시 완료 시 임계 경로 단축 시간을 보고
+public class LazyInitGroupBackgroundInitReporter
+        implements InstantiationAwareBeanPostProcessor, BeanFactoryAware, ApplicationListener<ContextRefreshedEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyInitGroupBackgroundInitReporter.class);
+
+    private final LazyInitGroupRegistry registry;
+
+    private final Map<String, Long> startNanosByBean = new ConcurrentHashMap<>();
+
+    private final Queue<Creation> backgroundCreations = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong lastRefreshThreadEndNanos = new AtomicLong();
+
+    private ConfigurableListableBeanFactory beanFactory;
+
+    private Thread refreshThread;
+
+    private volatile LazyInitGroupBackgroundInitReport report;
+
+    public LazyInitGroupBackgroundInitReporter(LazyInitGroupRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+        // 후처리기는 리프레시 스레드에서 생성됨
+        this.refreshThread = Thread.currentThread();
+    }
+
+    @Override
+    public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) throws BeansException {
+        if (report == null && isBackgroundInit(beanName)) {
+            startNanosByBean.putIfAbsent(beanName, System.nanoTime());
+        }
+        return null;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (report != null) {
+            return bean;
+        }
+        long endNanos = System.nanoTime();
+        Long startNanos = startNanosByBean.remove(beanName);
+        Thread currentThread = Thread.currentThread();
+
+        if (startNanos != null) {
+            backgroundCreations.add(new Creation(beanName, currentThread, startNanos, endNanos));
+        } else if (currentThread == refreshThread) {
+            lastRefreshThreadEndNanos.accumulateAndGet(endNanos, Math::max);
+        }
+        return bean;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (report != null || event.getApplicationContext().getAutowireCapableBeanFactory() != beanFactory) {
+            return;
+        }
+
+        List<Creation> offRefreshThread = backgroundCreations.stream()
+            .filter(creation -> creation.thread() != refreshThread)
+            .toList();
+        long backgroundWorkNanos = offRefreshThread.stream()
+            .collect(Collectors.groupingBy(Creation::thread))
+            .values().stream()
+            .mapToLong(LazyInitGroupBackgroundInitReporter::unionNanos)
+            .sum();
+        long lastBackgroundEndNanos = offRefreshThread.stream().mapToLong(Creation::endNanos).max().orElse(0);
+        long waitNanos = lastRefreshThreadEndNanos.get() > 0
+            ? Math.max(0, lastBackgroundEndNanos - lastRefreshThreadEndNanos.get()) : 0;
+
+        Map<String, Integer> beanCountByGroup = new TreeMap<>();
+        for (Creation creation : backgroundCreations) {
+            String groupName = registry.getGroupName(creation.beanName());
+            beanCountByGroup.merge(groupName != null ? groupName : "-", 1, Integer::sum);
+        }
+
+        report = new LazyInitGroupBackgroundInitReport(
+            backgroundCreations.size(), beanCountByGroup, Duration.ofNanos(backgroundWorkNanos),
+            Duration.ofNanos(waitNanos), Duration.ofNanos(Math.max(0, backgroundWorkNanos - waitNanos)));
+
+        logger.info("[LAZY-INIT] 백그라운드 그룹 초기화: 빈 {} 개 {}, 백그라운드 작업 {} ms (리프레시 스레드 외 {} 개), "
+                  + "리프레시 스레드 대기 {} ms, 임계 경로 단축 약 {} ms",
+                  report.beanCount(), beanCountByGroup, report.backgroundWork().toMillis(), offRefreshThread.size(),
+                  report.refreshThreadWait().toMillis(), report.criticalPathSaved().toMillis());
+    }
+
+    public LazyInitGroupBackgroundInitReport getReport() {
+        return report;
+    }
+
+    private boolean isBackgroundInit(String beanName) {
+        if (beanFactory == null || !beanFactory.containsBeanDefinition(beanName)) {
+            return false;
+        }
+        BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+        return beanDefinition instanceof AbstractBeanDefinition abstractDefinition && abstractDefinition.isBackgroundInit();
+    }
+
+    // 같은 스레드에서 중첩 생성된 빈(의존 빈)의 구간이 두 번 더해지지 않도록 구간 합집합의 길이를 계산
+    private static long unionNanos(List<Creation> creations) {
+        List<Creation> sorted = new ArrayList<>(creations);
+        sorted.sort(Comparator.comparingLong(Creation::startNanos));
+        long total = 0;
+        long currentStart = -1;
+        long currentEnd = -1;
+        for (Creation creation : sorted) {
+            if (currentEnd < 0 || creation.startNanos() > currentEnd) {
+                total += currentEnd - currentStart;
+                currentStart = creation.startNanos();
+                currentEnd = creation.endNanos();
+            } else {
+                currentEnd = Math.max(currentEnd, creation.endNanos());
+            }
+        }
+        return total + (currentEnd - currentStart);
+    }
+
+    private record Creation(String beanName, Thread thread, long startNanos, long endNanos) {
+    }
+}
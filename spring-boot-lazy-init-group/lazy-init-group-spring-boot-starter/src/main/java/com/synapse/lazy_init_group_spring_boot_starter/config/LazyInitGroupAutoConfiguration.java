@@ -1,23 +1,165 @@
 package com.synapse.lazy_init_group_spring_boot_starter.config;
 
+import com.synapse.lazy_init_group_spring_boot_starter.background.LazyInitGroupBackgroundInitReporter;
+import com.synapse.lazy_init_group_spring_boot_starter.context.LazyInitGroupChildContextManager;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupFailureGuard;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupInitializationTracker;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupInitializer;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupRegistry;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupResolver;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupSelector;
+import com.synapse.lazy_init_group_spring_boot_starter.heap.LazyInitGroupHeapAccountant;
+import com.synapse.lazy_init_group_spring_boot_starter.preload.LazyInitGroupClassPreloader;
+import com.synapse.lazy_init_group_spring_boot_starter.processor.BeanDefinitionClassifier;
+import com.synapse.lazy_init_group_spring_boot_starter.processor.ChildContextGroupBeanDefinitionRegistryPostProcessor;
+import com.synapse.lazy_init_group_spring_boot_starter.processor.ConfigurationGroupBeanDefinitionRegistryPostProcessor;
 import com.synapse.lazy_init_group_spring_boot_starter.processor.ExcludeGroupBeanDefinitionRegistryPostProcessor;
 import com.synapse.lazy_init_group_spring_boot_starter.processor.LazyInitGroupBeanFactoryPostProcessor;
+import com.synapse.lazy_init_group_spring_boot_starter.readiness.LazyInitGroupReadinessGate;
+import com.synapse.lazy_init_group_spring_boot_starter.scheduling.LazyInitGroupScheduledTaskDeferrer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.availability.ApplicationAvailabilityAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.env.Environment;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.StringUtils;
 
-@AutoConfiguration
+import java.time.Duration;
+import java.util.Arrays;
+
+// 준비 상태 게이트가 스프링 부트의 ApplicationAvailability 빈을 대신하도록 먼저 등록
+@AutoConfiguration(before = ApplicationAvailabilityAutoConfiguration.class)
 @Import(LazyInitAspectAutoConfiguration.class)
 public class LazyInitGroupAutoConfiguration {
 
     @Bean
-    public ExcludeGroupBeanDefinitionRegistryPostProcessor excludeGroupBeanDefinitionRegistryPostProcessor(Environment environment) {
-        return new ExcludeGroupBeanDefinitionRegistryPostProcessor(environment);
+    public LazyInitGroupRegistry lazyInitGroupRegistry() {
+        return new LazyInitGroupRegistry();
+    }
+
+    @Bean
+    public LazyInitGroupSelector lazyInitGroupSelector(Environment environment) {
+        return LazyInitGroupSelector.from(environment);
+    }
+
+    @Bean
+    public BeanDefinitionClassifier lazyInitGroupBeanDefinitionClassifier(Environment environment) {
+        return BeanDefinitionClassifier.from(environment);
+    }
+
+    // 클래스/패키지별 그룹 조회 캐시를 후처리기와 추적 기록기가 공유
+    @Bean
+    public LazyInitGroupResolver lazyInitGroupResolver(Environment environment) {
+        return LazyInitGroupResolver.from(environment);
+    }
+
+    @Bean
+    public ConfigurationGroupBeanDefinitionRegistryPostProcessor configurationGroupBeanDefinitionRegistryPostProcessor(LazyInitGroupResolver lazyInitGroupResolver) {
+        return new ConfigurationGroupBeanDefinitionRegistryPostProcessor(lazyInitGroupResolver);
+    }
+
+    @Bean
+    public ExcludeGroupBeanDefinitionRegistryPostProcessor excludeGroupBeanDefinitionRegistryPostProcessor(LazyInitGroupSelector lazyInitGroupSelector,
+                                                                                                           BeanDefinitionClassifier lazyInitGroupBeanDefinitionClassifier,
+                                                                                                           LazyInitGroupResolver lazyInitGroupResolver) {
+        return new ExcludeGroupBeanDefinitionRegistryPostProcessor(lazyInitGroupSelector, lazyInitGroupBeanDefinitionClassifier,
+                                                                   lazyInitGroupResolver);
+    }
+
+    @Bean
+    public LazyInitGroupBeanFactoryPostProcessor lazyInitGroupBeanFactoryPostProcessor(Environment environment,
+                                                                                       LazyInitGroupRegistry lazyInitGroupRegistry,
+                                                                                       LazyInitGroupSelector lazyInitGroupSelector,
+                                                                                       BeanDefinitionClassifier lazyInitGroupBeanDefinitionClassifier,
+                                                                                       LazyInitGroupResolver lazyInitGroupResolver) {
+        return new LazyInitGroupBeanFactoryPostProcessor(environment, lazyInitGroupRegistry, lazyInitGroupSelector,
+                                                         lazyInitGroupBeanDefinitionClassifier, lazyInitGroupResolver);
+    }
+
+    @Bean
+    public LazyInitGroupInitializer lazyInitGroupInitializer(ConfigurableListableBeanFactory beanFactory,
+                                                             LazyInitGroupRegistry lazyInitGroupRegistry,
+                                                             ObjectProvider<LazyInitGroupFailureGuard> lazyInitGroupFailureGuard) {
+        return new LazyInitGroupInitializer(beanFactory, lazyInitGroupRegistry, lazyInitGroupFailureGuard.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "lazy-init.failure.enabled", havingValue = "true")
+    public LazyInitGroupFailureGuard lazyInitGroupFailureGuard(Environment environment) {
+        Duration initialBackoff = environment.getProperty("lazy-init.failure.initial-backoff", Duration.class, Duration.ofSeconds(1));
+        Duration maxBackoff = environment.getProperty("lazy-init.failure.max-backoff", Duration.class, Duration.ofMinutes(5));
+        double multiplier = environment.getProperty("lazy-init.failure.multiplier", Double.class, 2.0);
+        return new LazyInitGroupFailureGuard(initialBackoff, maxBackoff, multiplier);
+    }
+
+    @Bean
+    public LazyInitGroupScheduledTaskDeferrer lazyInitGroupScheduledTaskDeferrer(ConfigurableListableBeanFactory beanFactory,
+                                                                                 LazyInitGroupRegistry lazyInitGroupRegistry,
+                                                                                 ObjectProvider<TaskScheduler> taskScheduler) {
+        return new LazyInitGroupScheduledTaskDeferrer(beanFactory, lazyInitGroupRegistry, taskScheduler);
+    }
+
+    @Bean
+    public static LazyInitGroupInitializationTracker lazyInitGroupInitializationTracker(LazyInitGroupRegistry lazyInitGroupRegistry) {
+        return new LazyInitGroupInitializationTracker(lazyInitGroupRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "lazy-init.background-groups")
+    public static LazyInitGroupBackgroundInitReporter lazyInitGroupBackgroundInitReporter(LazyInitGroupRegistry lazyInitGroupRegistry) {
+        return new LazyInitGroupBackgroundInitReporter(lazyInitGroupRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "lazy-init.heap-accounting.enabled", havingValue = "true")
+    public LazyInitGroupHeapAccountant lazyInitGroupHeapAccountant(ConfigurableListableBeanFactory beanFactory,
+                                                                   Environment environment) {
+        int maxObjects = environment.getProperty("lazy-init.heap-accounting.max-objects", Integer.class, 200_000);
+        return new LazyInitGroupHeapAccountant(beanFactory, maxObjects);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "lazy-init.child-context.groups")
+    public LazyInitGroupChildContextManager lazyInitGroupChildContextManager(Environment environment,
+                                                                             LazyInitGroupResolver lazyInitGroupResolver) {
+        String isolatedPackages = environment.getProperty("lazy-init.child-context.isolated-packages", "");
+        return new LazyInitGroupChildContextManager(
+            Arrays.asList(StringUtils.tokenizeToStringArray(isolatedPackages, ",")), lazyInitGroupResolver);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "lazy-init.child-context.groups")
+    public ChildContextGroupBeanDefinitionRegistryPostProcessor childContextGroupBeanDefinitionRegistryPostProcessor(
+            Environment environment, LazyInitGroupChildContextManager lazyInitGroupChildContextManager,
+            LazyInitGroupResolver lazyInitGroupResolver) {
+        return new ChildContextGroupBeanDefinitionRegistryPostProcessor(environment, lazyInitGroupChildContextManager,
+                                                                         lazyInitGroupResolver);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "lazy-init.readiness.critical-groups")
+    public LazyInitGroupReadinessGate lazyInitGroupReadinessGate(Environment environment,
+                                                                 LazyInitGroupRegistry lazyInitGroupRegistry,
+                                                                 LazyInitGroupInitializer lazyInitGroupInitializer) {
+        String criticalGroups = environment.getProperty("lazy-init.readiness.critical-groups", "");
+        int maxAttempts = environment.getProperty("lazy-init.readiness.max-attempts", Integer.class, 3);
+        Duration retryDelay = environment.getProperty("lazy-init.readiness.retry-delay", Duration.class, Duration.ofSeconds(5));
+        boolean failOpen = environment.getProperty("lazy-init.readiness.fail-open", Boolean.class, false);
+        return new LazyInitGroupReadinessGate(lazyInitGroupRegistry, lazyInitGroupInitializer,
+                                              Arrays.asList(StringUtils.tokenizeToStringArray(criticalGroups, ",")),
+                                              maxAttempts, retryDelay, failOpen);
     }
 
     @Bean
-    public LazyInitGroupBeanFactoryPostProcessor lazyInitGroupBeanFactoryPostProcessor(Environment environment) {
-        return new LazyInitGroupBeanFactoryPostProcessor(environment);
+    @ConditionalOnProperty(name = "lazy-init.preload.enabled", havingValue = "true")
+    public LazyInitGroupClassPreloader lazyInitGroupClassPreloader(ConfigurableListableBeanFactory beanFactory,
+                                                                   LazyInitGroupRegistry lazyInitGroupRegistry,
+                                                                   Environment environment) {
+        boolean initialize = environment.getProperty("lazy-init.preload.initialize", Boolean.class, false);
+        return new LazyInitGroupClassPreloader(beanFactory, lazyInitGroupRegistry, initialize);
     }
 }
@@ -0,0 +1,46 @@
+package com.synapse.lazy_init_group_spring_boot_starter.config;
+
+import com.synapse.lazy_init_group_spring_boot_starter.actuator.LazyInitGroupEndpoint;
+import com.synapse.lazy_init_group_spring_boot_starter.actuator.LazyInitGroupFailureMetrics;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupFailureGuard;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupInitializationTracker;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupInitializer;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupRegistry;
+import com.synapse.lazy_init_group_spring_boot_starter.heap.LazyInitGroupHeapAccountant;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+@AutoConfiguration(after = LazyInitGroupAutoConfiguration.class)
+@ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+@Import(LazyInitGroupEndpointAutoConfiguration.FailureMetricsConfiguration.class)
+public class LazyInitGroupEndpointAutoConfiguration {
+
+    @Bean
+    @ConditionalOnAvailableEndpoint
+    public LazyInitGroupEndpoint lazyInitGroupEndpoint(LazyInitGroupRegistry lazyInitGroupRegistry,
+                                                       LazyInitGroupInitializer lazyInitGroupInitializer,
+                                                       LazyInitGroupInitializationTracker lazyInitGroupInitializationTracker,
+                                                       ObjectProvider<LazyInitGroupHeapAccountant> lazyInitGroupHeapAccountant,
+                                                       ObjectProvider<LazyInitGroupFailureGuard> lazyInitGroupFailureGuard) {
+        return new LazyInitGroupEndpoint(lazyInitGroupRegistry, lazyInitGroupInitializer,
+                                         lazyInitGroupInitializationTracker, lazyInitGroupHeapAccountant,
+                                         lazyInitGroupFailureGuard);
+    }
+
+    // 스타터 패키지를 컴포넌트 스캔하는 애플리케이션에서도 조건 없이 등록되지 않도록 @Configuration 대신 @Import로만 등록
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+    static class FailureMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnBean(LazyInitGroupFailureGuard.class)
+        public LazyInitGroupFailureMetrics lazyInitGroupFailureMetrics(LazyInitGroupRegistry lazyInitGroupRegistry,
+                                                                       LazyInitGroupFailureGuard lazyInitGroupFailureGuard) {
+            return new LazyInitGroupFailureMetrics(lazyInitGroupRegistry, lazyInitGroupFailureGuard);
+        }
+    }
+}
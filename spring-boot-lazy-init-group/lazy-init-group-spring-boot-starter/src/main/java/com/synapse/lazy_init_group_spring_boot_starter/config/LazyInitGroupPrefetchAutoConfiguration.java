@@ -0,0 +1,48 @@
+package com.synapse.lazy_init_group_spring_boot_starter.config;
+
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupInitializer;
+import com.synapse.lazy_init_group_spring_boot_starter.web.LazyInitGroupPrefetchFilter;
+import com.synapse.lazy_init_group_spring_boot_starter.web.LazyInitGroupPrefetchWebFilter;
+import com.synapse.lazy_init_group_spring_boot_starter.web.LazyInitGroupPrefetcher;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+
+@AutoConfiguration(after = LazyInitGroupAutoConfiguration.class)
+@ConditionalOnProperty(name = "lazy-init.prefetch.enabled", havingValue = "true")
+@ConditionalOnClass(name = "org.springframework.http.server.PathContainer")
+@Import({
+    LazyInitGroupPrefetchAutoConfiguration.ServletPrefetchConfiguration.class,
+    LazyInitGroupPrefetchAutoConfiguration.ReactivePrefetchConfiguration.class
+})
+public class LazyInitGroupPrefetchAutoConfiguration {
+
+    @Bean
+    public LazyInitGroupPrefetcher lazyInitGroupPrefetcher(Environment environment, LazyInitGroupInitializer lazyInitGroupInitializer) {
+        return new LazyInitGroupPrefetcher(environment, lazyInitGroupInitializer);
+    }
+
+    // 스타터 패키지를 컴포넌트 스캔하는 애플리케이션에서도 조건 없이 등록되지 않도록 @Configuration 대신 @Import로만 등록
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(name = "jakarta.servlet.Filter")
+    static class ServletPrefetchConfiguration {
+
+        @Bean
+        public LazyInitGroupPrefetchFilter lazyInitGroupPrefetchFilter(LazyInitGroupPrefetcher lazyInitGroupPrefetcher) {
+            return new LazyInitGroupPrefetchFilter(lazyInitGroupPrefetcher);
+        }
+    }
+
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class ReactivePrefetchConfiguration {
+
+        @Bean
+        public LazyInitGroupPrefetchWebFilter lazyInitGroupPrefetchWebFilter(LazyInitGroupPrefetcher lazyInitGroupPrefetcher) {
+            return new LazyInitGroupPrefetchWebFilter(lazyInitGroupPrefetcher);
+        }
+    }
+}
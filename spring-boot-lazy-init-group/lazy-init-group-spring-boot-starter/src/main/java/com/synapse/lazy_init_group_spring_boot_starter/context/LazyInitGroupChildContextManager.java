@@ -0,0 +1,197 @@
+package com.synapse.lazy_init_group_spring_boot_starter.context;
+
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.CachedIntrospectionResults;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.framework.autoproxy.AbstractAutoProxyCreator;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.AbstractBeanFactory;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBindingPostProcessor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigUtils;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.scheduling.annotation.ScheduledAnnotationBeanPostProcessor;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 자식 컨텍스트 그룹의 빈 정의를 보관하고, 첫 사용 시 그룹 전용 자식 ApplicationContext를 생성/리프레시.
+// 닫힌 그룹은 다음 호출 시 다시 리프레시됨
+public class LazyInitGroupChildContextManager implements ApplicationContextAware, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyInitGroupChildContextManager.class);
+
+    private final List<String> isolatedPackages;
+
+    private final LazyInitGroupResolver groupResolver;
+
+    private final Map<String, Map<String, BeanDefinition>> beanDefinitionsByGroup = new ConcurrentHashMap<>();
+
+    private final Map<String, GenericApplicationContext> contexts = new ConcurrentHashMap<>();
+
+    private ApplicationContext parent;
+
+    public LazyInitGroupChildContextManager(List<String> isolatedPackages, LazyInitGroupResolver groupResolver) {
+        this.isolatedPackages = List.copyOf(isolatedPackages);
+        this.groupResolver = groupResolver;
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+        this.parent = applicationContext;
+    }
+
+    public void registerBeanDefinition(String groupName, String beanName, BeanDefinition beanDefinition) {
+        beanDefinitionsByGroup.computeIfAbsent(groupName, key -> Collections.synchronizedMap(new LinkedHashMap<>()))
+            .put(beanName, beanDefinition);
+    }
+
+    public Set<String> getGroupNames() {
+        return Collections.unmodifiableSet(beanDefinitionsByGroup.keySet());
+    }
+
+    public boolean isIsolated(String className) {
+        return LazyInitGroupClassLoader.isIsolated(className, isolatedPackages);
+    }
+
+    public boolean isActive(String groupName) {
+        GenericApplicationContext context = contexts.get(groupName);
+        return context != null && context.isActive();
+    }
+
+    public Object getBean(String groupName, String beanName) {
+        return getContext(groupName).getBean(beanName);
+    }
+
+    public GenericApplicationContext getContext(String groupName) {
+        GenericApplicationContext context = contexts.get(groupName);
+        if (context != null && context.isActive()) {
+            return context;
+        }
+
+        synchronized (this) {
+            context = contexts.get(groupName);
+            if (context == null || !context.isActive()) {
+                context = createContext(groupName);
+                contexts.put(groupName, context);
+            }
+            return context;
+        }
+    }
+
+    private GenericApplicationContext createContext(String groupName) {
+        Map<String, BeanDefinition> beanDefinitions = beanDefinitionsByGroup.get(groupName);
+        if (beanDefinitions == null) {
+            throw new IllegalArgumentException("자식 컨텍스트로 등록되지 않은 그룹입니다: " + groupName);
+        }
+        if (parent == null) {
+            throw new IllegalStateException("부모 ApplicationContext가 설정되지 않아 그룹 '" + groupName + "'을 초기화할 수 없습니다.");
+        }
+
+        long startTime = System.nanoTime();
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.setId(parent.getId() + ":" + groupName);
+        context.setDisplayName("LazyInitGroup '" + groupName + "'");
+        context.setParent(parent);
+        if (!isolatedPackages.isEmpty()) {
+            context.setClassLoader(new LazyInitGroupClassLoader(groupName, parent.getClassLoader(), isolatedPackages));
+        }
+        AnnotationConfigUtils.registerAnnotationConfigProcessors(context);
+        registerParentPostProcessors(context);
+
+        synchronized (beanDefinitions) {
+            beanDefinitions.forEach((beanName, beanDefinition) ->
+                context.registerBeanDefinition(beanName, copyBeanDefinition(beanDefinition)));
+        }
+        context.refresh();
+
+        logger.info("[LAZY-INIT] LazyInitGroup '{}' 자식 컨텍스트 초기화 완료 (빈 {} 개, {} ms)",
+                   groupName, beanDefinitions.size(), (System.nanoTime() - startTime) / 1_000_000);
+        return context;
+    }
+
+    // 부모의 빈 후처리기는 자식 빈에 적용되지 않으므로 AOP 프록시, @Async, @Scheduled, @ConfigurationProperties 바인딩을 자식에도 등록.
+    // 자동 프록시 생성기는 빈 이름별 상태를 가지므로 같은 클래스로 자식 전용 인스턴스를 만들고, 조상 컨텍스트의 Advisor와 @Aspect 빈
+    // (@Transactional, LazyInitLoggingAspect 등)을 그대로 찾게 함. 나머지는 빈 단위로만 동작하므로 부모 인스턴스를 공유
+    private void registerParentPostProcessors(GenericApplicationContext context) {
+        if (!(parent instanceof ConfigurableApplicationContext configurableParent)
+                || !(configurableParent.getBeanFactory() instanceof AbstractBeanFactory parentBeanFactory)) {
+            return;
+        }
+
+        for (BeanPostProcessor postProcessor : parentBeanFactory.getBeanPostProcessors()) {
+            String name = postProcessor.getClass().getName();
+            if (context.containsBeanDefinition(name) || context.getBeanFactory().containsSingleton(name)) {
+                continue;
+            }
+
+            if (postProcessor instanceof AbstractAutoProxyCreator autoProxyCreator) {
+                if (!ClassUtils.hasConstructor(autoProxyCreator.getClass())) {
+                    logger.warn("자동 프록시 생성기 '{}'는 기본 생성자가 없어 자식 컨텍스트에 등록하지 못했습니다. 자식 빈에는 AOP가 적용되지 않습니다.", name);
+                    continue;
+                }
+                RootBeanDefinition definition = new RootBeanDefinition(autoProxyCreator.getClass());
+                definition.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
+                definition.getPropertyValues().add("proxyTargetClass", autoProxyCreator.isProxyTargetClass());
+                definition.getPropertyValues().add("exposeProxy", autoProxyCreator.isExposeProxy());
+                definition.getPropertyValues().add("order", autoProxyCreator.getOrder());
+                context.registerBeanDefinition(name, definition);
+            } else if (postProcessor instanceof AbstractAdvisingBeanPostProcessor
+                    || postProcessor instanceof ScheduledAnnotationBeanPostProcessor
+                    || postProcessor instanceof ConfigurationPropertiesBindingPostProcessor) {
+                // 빈으로 등록해야 리프레시 시 다른 후처리기와 함께 순서대로 정렬됨
+                context.getBeanFactory().registerSingleton(name, postProcessor);
+            }
+        }
+    }
+
+    // 이전 리프레시의 클래스 참조가 남지 않도록 매번 복사하고, 격리 클래스는 이름만 남겨 새 클래스로더에서 다시 로드
+    private BeanDefinition copyBeanDefinition(BeanDefinition beanDefinition) {
+        AbstractBeanDefinition copy = beanDefinition instanceof AbstractBeanDefinition abstractDefinition
+            ? abstractDefinition.cloneBeanDefinition()
+            : new GenericBeanDefinition(beanDefinition);
+        String beanClassName = beanDefinition.getBeanClassName();
+        if (isIsolated(beanClassName)) {
+            copy.setBeanClassName(beanClassName);
+        }
+        return copy;
+    }
+
+    public boolean close(String groupName) {
+        GenericApplicationContext context;
+        synchronized (this) {
+            context = contexts.remove(groupName);
+        }
+        if (context == null) {
+            return false;
+        }
+
+        context.close();
+        if (context.getClassLoader() instanceof LazyInitGroupClassLoader classLoader) {
+            CachedIntrospectionResults.clearClassLoader(classLoader);
+            groupResolver.clearClassLoader(classLoader);
+        }
+        logger.info("[LAZY-INIT] LazyInitGroup '{}' 자식 컨텍스트를 닫았습니다.", groupName);
+        return true;
+    }
+
+    @Override
+    public void destroy() {
+        Set.copyOf(contexts.keySet()).forEach(this::close);
+    }
+}
@@ -0,0 +1,92 @@
+package com.synapse.lazy_init_group_spring_boot_starter.context;
+
+import org.springframework.aop.framework.AopInfrastructureBean;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.InitializingBean;
+
+// 부모 컨텍스트에서 자식 컨텍스트 그룹의 빈을 대신하는 프록시.
+// 격리 패키지의 빈은 부모 클래스로더에서 클래스를 참조할 수 없으므로 인터페이스 기반으로만 프록시 생성
+public class LazyInitGroupChildContextProxyFactoryBean implements FactoryBean<Object>, BeanClassLoaderAware,
+                                                                  InitializingBean, AopInfrastructureBean {
+
+    private LazyInitGroupChildContextManager childContextManager;
+
+    private String groupName;
+
+    private String targetBeanName;
+
+    private Class<?> targetClass;
+
+    private Class<?>[] proxyInterfaces = new Class<?>[0];
+
+    private ClassLoader beanClassLoader;
+
+    private Object proxy;
+
+    public void setChildContextManager(LazyInitGroupChildContextManager childContextManager) {
+        this.childContextManager = childContextManager;
+    }
+
+    public void setGroupName(String groupName) {
+        this.groupName = groupName;
+    }
+
+    public void setTargetBeanName(String targetBeanName) {
+        this.targetBeanName = targetBeanName;
+    }
+
+    public void setTargetClass(Class<?> targetClass) {
+        this.targetClass = targetClass;
+    }
+
+    public void setProxyInterfaces(Class<?>[] proxyInterfaces) {
+        this.proxyInterfaces = proxyInterfaces;
+    }
+
+    @Override
+    public void setBeanClassLoader(ClassLoader beanClassLoader) {
+        this.beanClassLoader = beanClassLoader;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        ProxyFactory proxyFactory = new ProxyFactory();
+        proxyFactory.setTargetSource(new LazyInitGroupChildContextTargetSource(
+            childContextManager, groupName, targetBeanName, targetClass));
+        if (targetClass != null) {
+            proxyFactory.setProxyTargetClass(true);
+        } else {
+            proxyFactory.setInterfaces(proxyInterfaces);
+        }
+        // 프록시 자체는 자동 프록시 대상에서 제외하고, 자식 컨텍스트의 타겟 빈에만 AOP가 적용되도록 함
+        proxyFactory.addInterface(AopInfrastructureBean.class);
+
+        this.proxy = proxyFactory.getProxy(beanClassLoader);
+    }
+
+    @Override
+    public Object getObject() {
+        if (proxy == null) {
+            throw new IllegalStateException("자식 컨텍스트 그룹 프록시가 아직 초기화되지 않았습니다: " + targetBeanName);
+        }
+        return proxy;
+    }
+
+    @Override
+    public Class<?> getObjectType() {
+        if (proxy != null) {
+            return proxy.getClass();
+        }
+        if (targetClass != null) {
+            return targetClass;
+        }
+        return proxyInterfaces.length == 1 ? proxyInterfaces[0] : null;
+    }
+
+    @Override
+    public boolean isSingleton() {
+        return true;
+    }
+}
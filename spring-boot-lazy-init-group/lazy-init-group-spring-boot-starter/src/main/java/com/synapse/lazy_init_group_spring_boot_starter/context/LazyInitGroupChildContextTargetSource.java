@@ -0,0 +1,38 @@
+package com.synapse.lazy_init_group_spring_boot_starter.context;
+
+import org.springframework.aop.TargetSource;
+
+// 호출마다 자식 컨텍스트에서 타겟을 조회하여, 컨텍스트가 닫혔다가 다시 리프레시되어도 새 인스턴스로 위임
+class LazyInitGroupChildContextTargetSource implements TargetSource {
+
+    private final LazyInitGroupChildContextManager childContextManager;
+
+    private final String groupName;
+
+    private final String targetBeanName;
+
+    private final Class<?> targetClass;
+
+    LazyInitGroupChildContextTargetSource(LazyInitGroupChildContextManager childContextManager, String groupName,
+                                          String targetBeanName, Class<?> targetClass) {
+        this.childContextManager = childContextManager;
+        this.groupName = groupName;
+        this.targetBeanName = targetBeanName;
+        this.targetClass = targetClass;
+    }
+
+    @Override
+    public Class<?> getTargetClass() {
+        return targetClass;
+    }
+
+    @Override
+    public boolean isStatic() {
+        return false;
+    }
+
+    @Override
+    public Object getTarget() {
+        return childContextManager.getBean(groupName, targetBeanName);
+    }
+}
@@ -0,0 +1,45 @@
+package com.synapse.lazy_init_group_spring_boot_starter.context;
+
+import org.springframework.core.OverridingClassLoader;
+
+import java.util.List;
+
+// 격리 패키지의 클래스를 부모에 위임하지 않고 직접 정의하여,
+// 자식 컨텍스트를 닫은 뒤 클래스로더와 함께 해당 클래스들이 언로드될 수 있도록 함
+public class LazyInitGroupClassLoader extends OverridingClassLoader {
+
+    static {
+        ClassLoader.registerAsParallelCapable();
+    }
+
+    private final String groupName;
+
+    private final List<String> isolatedPackages;
+
+    public LazyInitGroupClassLoader(String groupName, ClassLoader parent, List<String> isolatedPackages) {
+        super(parent);
+        this.groupName = groupName;
+        this.isolatedPackages = isolatedPackages.stream()
+            .map(isolatedPackage -> isolatedPackage.endsWith(".") ? isolatedPackage : isolatedPackage + ".")
+            .toList();
+    }
+
+    public static boolean isIsolated(String className, List<String> isolatedPackages) {
+        return className != null && isolatedPackages.stream()
+            .anyMatch(isolatedPackage -> className.startsWith(isolatedPackage.endsWith(".") ? isolatedPackage : isolatedPackage + "."));
+    }
+
+    @Override
+    protected boolean isEligibleForOverriding(String className) {
+        return super.isEligibleForOverriding(className) && isIsolated(className, isolatedPackages);
+    }
+
+    public String getGroupName() {
+        return groupName;
+    }
+
+    @Override
+    public String toString() {
+        return "LazyInitGroupClassLoader[" + groupName + "]";
+    }
+}
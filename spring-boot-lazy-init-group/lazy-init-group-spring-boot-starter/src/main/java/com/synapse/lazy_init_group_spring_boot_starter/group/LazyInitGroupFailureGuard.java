@@ -0,0 +1,167 @@
+package com.synapse.lazy_init_group_spring_boot_starter.group;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// 그룹 초기화 실패를 캐시하고 지수 백오프 동안 같은 그룹의 생성을 즉시 실패시켜,
+// 하나의 장애가 요청마다 비싼 생성 경로를 반복하는 부하로 번지지 않도록 함.
+// 그룹별 생성은 한 스레드씩만 수행하며, 첫 시도 중에는 결과를 기다리고 재시도 중에는 기다리지 않고 즉시 실패.
+// 병합 빈 정의가 리프레시 후 고정되어 생성 전 후처리기가 재호출되지 않으므로 초기화기/프록시 경로에서만 적용
+public class LazyInitGroupFailureGuard {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyInitGroupFailureGuard.class);
+
+    private final Duration initialBackoff;
+
+    private final Duration maxBackoff;
+
+    private final double multiplier;
+
+    private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    private final Map<String, FailureState> failures = new ConcurrentHashMap<>();
+
+    private final Map<String, Counters> countersByGroup = new ConcurrentHashMap<>();
+
+    public LazyInitGroupFailureGuard(Duration initialBackoff, Duration maxBackoff, double multiplier) {
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.multiplier = Math.max(1.0, multiplier);
+    }
+
+    public <T> T execute(String groupName, Supplier<T> creation) {
+        ReentrantLock lock = locks.computeIfAbsent(groupName, key -> new ReentrantLock());
+        if (!lock.tryLock()) {
+            FailureState state = failures.get(groupName);
+            if (state != null) {
+                throw fastFail(groupName, state, 0);
+            }
+            lock.lock();
+        }
+
+        try {
+            FailureState state = failures.get(groupName);
+            if (state != null) {
+                long remainingNanos = state.remainingNanos();
+                if (remainingNanos > 0) {
+                    throw fastFail(groupName, state, remainingNanos);
+                }
+                counters(groupName).retries.incrementAndGet();
+                logger.debug("그룹 '{}' 초기화 재시도 ({} 회 실패 후)", groupName, state.consecutiveFailures());
+            }
+
+            T result;
+            try {
+                result = creation.get();
+            } catch (LazyInitGroupUnavailableException ex) {
+                if (groupName.equals(ex.getGroupName())) {
+                    throw ex;
+                }
+                recordFailure(groupName, ex);
+                throw ex;
+            } catch (RuntimeException ex) {
+                recordFailure(groupName, ex);
+                throw ex;
+            }
+            recordSuccess(groupName);
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isFailing(String groupName) {
+        return failures.containsKey(groupName);
+    }
+
+    public LazyInitGroupFailureStats getStats(String groupName) {
+        Counters counters = countersByGroup.get(groupName);
+        long failureCount = counters != null ? counters.failures.get() : 0;
+        long fastFailureCount = counters != null ? counters.fastFailures.get() : 0;
+        long retryCount = counters != null ? counters.retries.get() : 0;
+        long recoveryCount = counters != null ? counters.recoveries.get() : 0;
+
+        FailureState state = failures.get(groupName);
+        if (state == null) {
+            return new LazyInitGroupFailureStats(failureCount, fastFailureCount, retryCount, recoveryCount, 0, null, null, null);
+        }
+        return new LazyInitGroupFailureStats(failureCount, fastFailureCount, retryCount, recoveryCount,
+            state.consecutiveFailures(), String.valueOf(state.lastFailure()), state.lastFailureAt(),
+            Instant.now().plusNanos(Math.max(0, state.remainingNanos())));
+    }
+
+    // 원인을 해결한 뒤 백오프를 기다리지 않고 다음 호출에서 바로 초기화하도록 실패 상태를 제거
+    public boolean reset(String groupName) {
+        boolean removed = failures.remove(groupName) != null;
+        if (removed) {
+            logger.info("[LAZY-INIT] LazyInitGroup '{}' 초기화 실패 상태 수동 초기화", groupName);
+        }
+        return removed;
+    }
+
+    public void resetAll() {
+        failures.keySet().forEach(this::reset);
+    }
+
+    private void recordFailure(String groupName, RuntimeException failure) {
+        counters(groupName).failures.incrementAndGet();
+        FailureState previous = failures.get(groupName);
+        int consecutiveFailures = previous != null ? previous.consecutiveFailures() + 1 : 1;
+        Duration backoff = backoff(consecutiveFailures);
+        failures.put(groupName, new FailureState(
+            consecutiveFailures, failure, Instant.now(), System.nanoTime() + backoff.toNanos()));
+
+        logger.warn("[LAZY-INIT] LazyInitGroup '{}' 초기화 실패 ({} 회 연속), {} ms 동안 즉시 실패 후 재시도: {}",
+                  groupName, consecutiveFailures, backoff.toMillis(), failure.getMessage());
+    }
+
+    private void recordSuccess(String groupName) {
+        FailureState state = failures.remove(groupName);
+        if (state != null) {
+            counters(groupName).recoveries.incrementAndGet();
+            logger.info("[LAZY-INIT] LazyInitGroup '{}' 초기화 복구 ({} 회 연속 실패 후)", groupName, state.consecutiveFailures());
+        }
+    }
+
+    private LazyInitGroupUnavailableException fastFail(String groupName, FailureState state, long remainingNanos) {
+        counters(groupName).fastFailures.incrementAndGet();
+        return new LazyInitGroupUnavailableException(
+            groupName, state.consecutiveFailures(), Duration.ofNanos(remainingNanos), state.lastFailure());
+    }
+
+    private Duration backoff(int consecutiveFailures) {
+        double nanos = initialBackoff.toNanos() * Math.pow(multiplier, consecutiveFailures - 1);
+        return nanos >= maxBackoff.toNanos() ? maxBackoff : Duration.ofNanos((long) nanos);
+    }
+
+    private Counters counters(String groupName) {
+        return countersByGroup.computeIfAbsent(groupName, key -> new Counters());
+    }
+
+    private record FailureState(int consecutiveFailures, RuntimeException lastFailure, Instant lastFailureAt,
+                                long nextRetryNanos) {
+
+        long remainingNanos() {
+            return nextRetryNanos - System.nanoTime();
+        }
+    }
+
+    private static class Counters {
+
+        private final AtomicLong failures = new AtomicLong();
+
+        private final AtomicLong fastFailures = new AtomicLong();
+
+        private final AtomicLong retries = new AtomicLong();
+
+        private final AtomicLong recoveries = new AtomicLong();
+    }
+}
@@ -0,0 +1,13 @@
+package com.synapse.lazy_init_group_spring_boot_starter.group;
+
+import java.time.Instant;
+
+// failures/fastFailures/retries/recoveries는 누적값, 나머지는 현재 실패 상태 (실패 상태가 아니면 0/null)
+public record LazyInitGroupFailureStats(long failures, long fastFailures, long retries, long recoveries,
+                                        int consecutiveFailures, String lastFailure, Instant lastFailureAt,
+                                        Instant nextRetryAt) {
+
+    public boolean isFailing() {
+        return consecutiveFailures > 0;
+    }
+}
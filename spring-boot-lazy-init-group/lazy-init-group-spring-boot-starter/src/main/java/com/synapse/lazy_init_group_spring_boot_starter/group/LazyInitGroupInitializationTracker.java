@@ -0,0 +1,106 @@
+package com.synapse.lazy_init_group_spring_boot_starter.group;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// 초기화기/프리페치/첫 메서드 호출 등 어떤 경로로 생성되든 그룹 단위의 초기화 시점을 기록
+public class LazyInitGroupInitializationTracker
+        implements InstantiationAwareBeanPostProcessor, ApplicationEventPublisherAware, ApplicationListener<ContextRefreshedEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyInitGroupInitializationTracker.class);
+
+    private final LazyInitGroupRegistry registry;
+
+    private final Map<String, Long> startNanosByGroup = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> createdBeansByGroup = new ConcurrentHashMap<>();
+
+    private final Map<String, LazyInitGroupInitializedEvent> initializedGroups = new ConcurrentHashMap<>();
+
+    // 리프레시 중 백그라운드 스레드에서 완료된 그룹의 이벤트 (리스너 빈 조회가 메인라인 빈 생성과 충돌하므로 리프레시 후 발행)
+    private final Queue<LazyInitGroupInitializedEvent> deferredEvents = new ConcurrentLinkedQueue<>();
+
+    private ApplicationEventPublisher eventPublisher;
+
+    private Thread refreshThread;
+
+    private volatile boolean refreshed;
+
+    public LazyInitGroupInitializationTracker(LazyInitGroupRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+        this.refreshThread = Thread.currentThread();
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (event.getApplicationContext() != eventPublisher) {
+            return;
+        }
+        refreshed = true;
+        LazyInitGroupInitializedEvent deferredEvent;
+        while ((deferredEvent = deferredEvents.poll()) != null) {
+            eventPublisher.publishEvent(deferredEvent);
+        }
+    }
+
+    @Override
+    public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) throws BeansException {
+        String groupName = registry.getGroupName(beanName);
+        if (groupName != null) {
+            startNanosByGroup.putIfAbsent(groupName, System.nanoTime());
+        }
+        return null;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        String groupName = registry.getGroupName(beanName);
+        if (groupName == null || initializedGroups.containsKey(groupName)) {
+            return bean;
+        }
+
+        Set<String> createdBeans = createdBeansByGroup.computeIfAbsent(groupName, key -> ConcurrentHashMap.newKeySet());
+        createdBeans.add(beanName);
+
+        Set<String> beanNames = registry.getBeanNames(groupName);
+        if (createdBeans.containsAll(beanNames)) {
+            long startNanos = startNanosByGroup.getOrDefault(groupName, System.nanoTime());
+            LazyInitGroupInitializedEvent event = new LazyInitGroupInitializedEvent(
+                this, groupName, Set.copyOf(beanNames), Duration.ofNanos(System.nanoTime() - startNanos), Instant.now());
+
+            if (initializedGroups.putIfAbsent(groupName, event) == null) {
+                logger.debug("그룹 '{}'의 모든 빈({} 개) 생성 완료: {} ms",
+                           groupName, beanNames.size(), event.getInitializationTime().toMillis());
+                if (!refreshed && Thread.currentThread() != refreshThread) {
+                    deferredEvents.add(event);
+                } else if (eventPublisher != null) {
+                    eventPublisher.publishEvent(event);
+                }
+            }
+        }
+        return bean;
+    }
+
+    public LazyInitGroupInitializedEvent getInitialization(String groupName) {
+        return initializedGroups.get(groupName);
+    }
+}
@@ -0,0 +1,44 @@
+package com.synapse.lazy_init_group_spring_boot_starter.group;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+// 그룹에 속한 모든 빈의 생성이 끝났을 때 발행 (초기화 경로와 무관하게 한 번만 발행)
+public class LazyInitGroupInitializedEvent extends ApplicationEvent {
+
+    private final String groupName;
+
+    private final Set<String> beanNames;
+
+    private final Duration initializationTime;
+
+    private final Instant initializedAt;
+
+    public LazyInitGroupInitializedEvent(Object source, String groupName, Set<String> beanNames,
+                                         Duration initializationTime, Instant initializedAt) {
+        super(source);
+        this.groupName = groupName;
+        this.beanNames = beanNames;
+        this.initializationTime = initializationTime;
+        this.initializedAt = initializedAt;
+    }
+
+    public String getGroupName() {
+        return groupName;
+    }
+
+    public Set<String> getBeanNames() {
+        return beanNames;
+    }
+
+    public Duration getInitializationTime() {
+        return initializationTime;
+    }
+
+    public Instant getInitializedAt() {
+        return initializedAt;
+    }
+}
@@ -0,0 +1,115 @@
+package com.synapse.lazy_init_group_spring_boot_starter.group;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class LazyInitGroupInitializer implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyInitGroupInitializer.class);
+
+    private final ConfigurableListableBeanFactory beanFactory;
+
+    private final LazyInitGroupRegistry registry;
+
+    private final ExecutorService executor;
+
+    private final LazyInitGroupFailureGuard failureGuard;
+
+    private final Map<String, CompletableFuture<Void>> initializations = new ConcurrentHashMap<>();
+
+    public LazyInitGroupInitializer(ConfigurableListableBeanFactory beanFactory, LazyInitGroupRegistry registry) {
+        this(beanFactory, registry, null);
+    }
+
+    public LazyInitGroupInitializer(ConfigurableListableBeanFactory beanFactory, LazyInitGroupRegistry registry,
+                                    LazyInitGroupFailureGuard failureGuard) {
+        this.beanFactory = beanFactory;
+        this.registry = registry;
+        this.failureGuard = failureGuard;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("lazy-init-group-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newFixedThreadPool(2, threadFactory);
+    }
+
+    // 이미 진행 중이거나 완료된 초기화는 재사용하고, 실패한 경우에만 다시 시도
+    public CompletableFuture<Void> initializeAsync(String groupName) {
+        return initializations.compute(groupName, (key, existing) -> {
+            if (existing != null && !existing.isCompletedExceptionally()) {
+                return existing;
+            }
+            logger.debug("그룹 '{}' 비동기 초기화 시작", groupName);
+            return CompletableFuture.runAsync(() -> initialize(groupName), executor)
+                .whenComplete((result, ex) -> {
+                    if (ex != null && ex.getCause() instanceof LazyInitGroupUnavailableException) {
+                        logger.debug("그룹 '{}' 비동기 초기화 생략: {}", groupName, ex.getCause().getMessage());
+                    } else if (ex != null) {
+                        logger.warn("[LAZY-INIT] LazyInitGroup '{}' 비동기 초기화 실패: {}", groupName, ex.getMessage());
+                    }
+                });
+        });
+    }
+
+    // 실패 가드가 있으면 최근 실패한 그룹은 재시도 대기 시간 동안 빈 생성 없이 LazyInitGroupUnavailableException으로 즉시 실패
+    public void initialize(String groupName) {
+        if (failureGuard == null) {
+            createBeans(groupName);
+            return;
+        }
+        failureGuard.execute(groupName, () -> {
+            createBeans(groupName);
+            return null;
+        });
+    }
+
+    private void createBeans(String groupName) {
+        Set<String> beanNames = registry.getBeanNames(groupName);
+        long startTime = System.nanoTime();
+
+        for (String beanName : beanNames) {
+            beanFactory.getBean(beanName);
+        }
+
+        logger.info("[LAZY-INIT] LazyInitGroup '{}' 초기화 완료: {} 개의 빈, {} ms",
+                   groupName, beanNames.size(), (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    public LazyInitGroupStatus getStatus(String groupName) {
+        CompletableFuture<Void> initialization = initializations.get(groupName);
+        if (initialization != null) {
+            if (initialization.isCompletedExceptionally()) {
+                return LazyInitGroupStatus.FAILED;
+            }
+            if (!initialization.isDone()) {
+                return LazyInitGroupStatus.INITIALIZING;
+            }
+        }
+        if (failureGuard != null && failureGuard.isFailing(groupName)) {
+            return LazyInitGroupStatus.FAILED;
+        }
+
+        // 초기화기를 거치지 않고 직접 호출되어 생성된 경우도 반영
+        Set<String> beanNames = registry.getBeanNames(groupName);
+        boolean allCreated = !beanNames.isEmpty() && beanNames.stream().allMatch(beanFactory::containsSingleton);
+        return allCreated ? LazyInitGroupStatus.INITIALIZED : LazyInitGroupStatus.NOT_INITIALIZED;
+    }
+
+    public boolean isInitialized(String groupName) {
+        return getStatus(groupName) == LazyInitGroupStatus.INITIALIZED;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
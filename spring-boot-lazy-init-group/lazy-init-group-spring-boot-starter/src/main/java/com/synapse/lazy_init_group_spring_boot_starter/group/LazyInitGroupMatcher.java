@@ -0,0 +1,164 @@
+package com.synapse.lazy_init_group_spring_boot_starter.group;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// '.'으로 구분된 계층형 그룹명 패턴을 세그먼트 트라이로 한 번만 컴파일하여 매칭.
+// - reporting.pdf   : 정확히 일치
+// - reporting.*     : 한 단계 하위 그룹 (reporting.pdf)
+// - reporting.**    : reporting 자신과 모든 하위 그룹
+// - !reporting.legacy : 제외 패턴. 일치하는 그룹과 그 하위 그룹(reporting.legacy.sub)을 제외하며, 순서와 관계없이 포함 패턴보다 우선
+// 매칭은 그룹명 세그먼트 수 x 활성 노드 수에 비례하며, 결과는 그룹명별로 캐시
+public final class LazyInitGroupMatcher {
+
+    private static final int INCLUDE = 1;
+
+    private static final int EXCLUDE = 2;
+
+    private final Node root = new Node(false);
+
+    private final List<String> patterns;
+
+    private final boolean hasIncludePatterns;
+
+    private final Map<String, Boolean> results = new ConcurrentHashMap<>();
+
+    private LazyInitGroupMatcher(Collection<String> rawPatterns) {
+        List<String> compiledPatterns = new ArrayList<>();
+        boolean includes = false;
+
+        for (String rawPattern : rawPatterns) {
+            String pattern = rawPattern != null ? rawPattern.trim() : "";
+            boolean exclude = pattern.startsWith("!");
+            String body = (exclude ? pattern.substring(1) : pattern).trim();
+            if (!StringUtils.hasText(body)) {
+                continue;
+            }
+
+            Node node = root;
+            for (String segment : body.split("\\.")) {
+                node = node.child(segment.trim());
+            }
+            node.terminalFlags |= exclude ? EXCLUDE : INCLUDE;
+            includes |= !exclude;
+            compiledPatterns.add(exclude ? "!" + body : body);
+        }
+
+        this.patterns = List.copyOf(compiledPatterns);
+        this.hasIncludePatterns = includes;
+    }
+
+    public static LazyInitGroupMatcher compile(Collection<String> patterns) {
+        return new LazyInitGroupMatcher(patterns);
+    }
+
+    // 콤마 구분 문자열과 YAML 리스트 모두 바인딩
+    public static LazyInitGroupMatcher bind(Environment environment, String propertyName) {
+        List<String> patterns = Binder.get(environment)
+            .bind(propertyName, Bindable.listOf(String.class))
+            .orElse(List.of());
+        return compile(patterns);
+    }
+
+    public boolean isEmpty() {
+        return !hasIncludePatterns;
+    }
+
+    public List<String> getPatterns() {
+        return patterns;
+    }
+
+    public boolean matches(String groupName) {
+        if (!hasIncludePatterns || groupName == null) {
+            return false;
+        }
+        return results.computeIfAbsent(groupName, this::evaluate);
+    }
+
+    private boolean evaluate(String groupName) {
+        List<Node> states = new ArrayList<>();
+        addWithClosure(states, root);
+
+        for (String segment : groupName.trim().split("\\.")) {
+            List<Node> next = new ArrayList<>();
+            for (Node state : states) {
+                if (state.globstar) {
+                    addWithClosure(next, state);
+                }
+                Node literal = state.children.get(segment);
+                if (literal != null) {
+                    addWithClosure(next, literal);
+                }
+                if (state.wildcard != null) {
+                    addWithClosure(next, state.wildcard);
+                }
+            }
+            if (next.isEmpty()) {
+                return false;
+            }
+            // 제외 패턴은 접두사 단위로 적용하여 제외된 그룹의 하위 그룹도 제외
+            if ((terminalFlags(next) & EXCLUDE) != 0) {
+                return false;
+            }
+            states = next;
+        }
+
+        return (terminalFlags(states) & INCLUDE) != 0;
+    }
+
+    private static int terminalFlags(List<Node> states) {
+        int flags = 0;
+        for (Node state : states) {
+            flags |= state.terminalFlags;
+        }
+        return flags;
+    }
+
+    // '**'는 세그먼트를 소비하지 않고도 도달할 수 있으므로 함께 추가
+    private static void addWithClosure(List<Node> states, Node node) {
+        for (Node current = node; current != null; current = current.globstarChild) {
+            if (!states.contains(current)) {
+                states.add(current);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return patterns.toString();
+    }
+
+    private static final class Node {
+
+        private final boolean globstar;
+
+        private final Map<String, Node> children = new HashMap<>();
+
+        private Node wildcard;
+
+        private Node globstarChild;
+
+        private int terminalFlags;
+
+        private Node(boolean globstar) {
+            this.globstar = globstar;
+        }
+
+        private Node child(String segment) {
+            return switch (segment) {
+                case "*" -> wildcard != null ? wildcard : (wildcard = new Node(false));
+                case "**" -> globstarChild != null ? globstarChild : (globstarChild = new Node(true));
+                default -> children.computeIfAbsent(segment, key -> new Node(false));
+            };
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.synapse.lazy_init_group_spring_boot_starter.group;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 후처리기가 지연 초기화를 설정한 빈들을 그룹별로 기록하여 이후 그룹 단위 초기화에 사용
+public class LazyInitGroupRegistry {
+
+    private final Map<String, Set<String>> beanNamesByGroup = new ConcurrentHashMap<>();
+
+    private final Map<String, String> groupNameByBean = new ConcurrentHashMap<>();
+
+    public void register(String groupName, String beanName) {
+        beanNamesByGroup.computeIfAbsent(groupName, key -> ConcurrentHashMap.newKeySet()).add(beanName);
+        groupNameByBean.put(beanName, groupName);
+    }
+
+    public String getGroupName(String beanName) {
+        return groupNameByBean.get(beanName);
+    }
+
+    public Set<String> getGroupNames() {
+        return Collections.unmodifiableSet(beanNamesByGroup.keySet());
+    }
+
+    public Set<String> getBeanNames(String groupName) {
+        Set<String> beanNames = beanNamesByGroup.get(groupName);
+        return beanNames != null ? Collections.unmodifiableSet(beanNames) : Collections.emptySet();
+    }
+
+    public boolean containsGroup(String groupName) {
+        return beanNamesByGroup.containsKey(groupName);
+    }
+}
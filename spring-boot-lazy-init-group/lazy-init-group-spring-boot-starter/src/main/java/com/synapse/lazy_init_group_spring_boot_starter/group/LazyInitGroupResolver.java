@@ -0,0 +1,168 @@
+package com.synapse.lazy_init_group_spring_boot_starter.group;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.core.Conventions;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.annotation.MergedAnnotations.SearchStrategy;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 클래스의 @LazyInitGroup을 다음 순서로 찾음:
+// 1) 클래스/상위 클래스/인터페이스에 직접 또는 메타 애노테이션(커스텀 스테레오타입)으로 선언된 그룹
+// 2) 클래스 패키지의 package-info (lazy-init.package-groups.include-subpackages가 켜져 있으면 없을 때 상위 패키지의 package-info)
+// 결과는 클래스별/패키지별로 캐시하므로 같은 패키지의 빈들은 package-info를 한 번만 조회함
+public class LazyInitGroupResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyInitGroupResolver.class);
+
+    // 설정 클래스에서 물려받은 그룹 (@Bean 메서드, 중첩 설정, @Import 대상). 클래스에서 찾은 그룹보다 우선
+    public static final String GROUP_ATTRIBUTE = Conventions.getQualifiedAttributeName(LazyInitGroupResolver.class, "group");
+
+    private static final String PACKAGE_INFO_CLASS_NAME = "package-info";
+
+    private final Map<Class<?>, Optional<String>> groupByClass = new ConcurrentHashMap<>();
+
+    private final Map<PackageKey, Optional<String>> groupByPackage = new ConcurrentHashMap<>();
+
+    private final boolean includeSubpackages;
+
+    public LazyInitGroupResolver() {
+        this(false);
+    }
+
+    public LazyInitGroupResolver(boolean includeSubpackages) {
+        this.includeSubpackages = includeSubpackages;
+    }
+
+    public static LazyInitGroupResolver from(Environment environment) {
+        return new LazyInitGroupResolver(
+            environment.getProperty("lazy-init.package-groups.include-subpackages", Boolean.class, false));
+    }
+
+    public static Optional<String> getInheritedGroup(BeanDefinition beanDefinition) {
+        return beanDefinition.getAttribute(GROUP_ATTRIBUTE) instanceof String groupName
+            ? Optional.of(groupName) : Optional.empty();
+    }
+
+    // 빈 정의의 그룹. 설정 클래스에서 물려받은 그룹이 있으면 우선하고, 없으면 빈 클래스에서 찾음
+    public Optional<String> resolve(BeanDefinition beanDefinition) {
+        Optional<String> inheritedGroup = getInheritedGroup(beanDefinition);
+        if (inheritedGroup.isPresent()) {
+            return inheritedGroup;
+        }
+        try {
+            Class<?> beanClass = getBeanClass(beanDefinition);
+            if (beanClass != null) {
+                return resolve(beanClass);
+            }
+        } catch (Exception e) {
+            logger.debug("@LazyInitGroup 그룹명 추출 중 오류: {}", e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    public static Class<?> getBeanClass(BeanDefinition beanDefinition) {
+        try {
+            Class<?> resolvedClass = beanDefinition.getResolvableType().resolve();
+
+            // CGLIB 프록시가 적용된 경우 원본 클래스를 안전하게 조회
+            if (resolvedClass != null && resolvedClass != Object.class) {
+                return ClassUtils.getUserClass(resolvedClass);
+            }
+
+            // 일반적인 빈. 병렬 분류 중 정적 초기화가 실행되면 서로를 참조하는 클래스끼리 교착될 수 있으므로 초기화 없이 로드
+            String beanClassName = beanDefinition.getBeanClassName();
+            if (beanClassName != null) {
+                return ClassUtils.forName(beanClassName, ClassUtils.getDefaultClassLoader());
+            }
+
+            if (beanDefinition.getFactoryBeanName() != null) {
+                logger.debug("팩토리 빈 '{}' 감지, 클래스 타입을 직접 확인할 수 없습니다. 팩토리 메서드: {}",
+                           beanDefinition.getFactoryBeanName(), beanDefinition.getFactoryMethodName());
+            }
+        } catch (ClassNotFoundException e) {
+            logger.debug("클래스를 찾을 수 없습니다: {} - {}", beanDefinition.getBeanClassName(), e.getMessage());
+        } catch (Exception e) {
+            logger.debug("빈 클래스 타입 확인 중 오류: {} - BeanClassName: {}", e.getMessage(), beanDefinition.getBeanClassName());
+        }
+
+        return null;
+    }
+
+    public Optional<String> resolve(Class<?> type) {
+        Class<?> userClass = ClassUtils.getUserClass(type);
+        Optional<String> groupName = groupByClass.get(userClass);
+        if (groupName == null) {
+            groupName = findDeclaredGroup(userClass);
+            if (groupName.isEmpty()) {
+                groupName = resolvePackage(userClass.getPackageName(), userClass.getClassLoader());
+            }
+            groupByClass.putIfAbsent(userClass, groupName);
+        }
+        return groupName;
+    }
+
+    public Optional<String> resolvePackage(String packageName, ClassLoader classLoader) {
+        PackageKey key = new PackageKey(packageName, classLoader);
+        Optional<String> groupName = groupByPackage.get(key);
+        if (groupName != null) {
+            return groupName;
+        }
+
+        groupName = findPackageGroup(packageName, classLoader);
+        if (groupName.isEmpty() && includeSubpackages && !packageName.isEmpty()) {
+            // 상위 패키지 결과도 캐시되므로 하위 패키지가 많아도 각 패키지는 한 번만 조회
+            int lastDot = packageName.lastIndexOf('.');
+            groupName = resolvePackage(lastDot > 0 ? packageName.substring(0, lastDot) : "", classLoader);
+        }
+        groupByPackage.putIfAbsent(key, groupName);
+        return groupName;
+    }
+
+    // 닫힌 자식 컨텍스트의 격리 클래스로더가 언로드될 수 있도록 그 클래스로더(와 하위 클래스로더)의 클래스/패키지 결과를 제거
+    public void clearClassLoader(ClassLoader classLoader) {
+        groupByClass.keySet().removeIf(type -> isUnderneathClassLoader(type.getClassLoader(), classLoader));
+        groupByPackage.keySet().removeIf(key -> isUnderneathClassLoader(key.classLoader(), classLoader));
+    }
+
+    private static boolean isUnderneathClassLoader(ClassLoader candidate, ClassLoader parent) {
+        for (ClassLoader current = candidate; current != null; current = current.getParent()) {
+            if (current == parent) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Optional<String> findDeclaredGroup(Class<?> type) {
+        MergedAnnotation<LazyInitGroup> annotation = MergedAnnotations
+            .from(type, SearchStrategy.TYPE_HIERARCHY)
+            .get(LazyInitGroup.class);
+        return annotation.isPresent() ? Optional.of(annotation.getString("value")) : Optional.empty();
+    }
+
+    private static Optional<String> findPackageGroup(String packageName, ClassLoader classLoader) {
+        if (packageName.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            // Package 객체는 해당 패키지의 클래스가 로드된 경우에만 존재하므로 package-info 클래스를 직접 로드
+            Class<?> packageInfo = ClassUtils.forName(packageName + "." + PACKAGE_INFO_CLASS_NAME, classLoader);
+            return findDeclaredGroup(packageInfo);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return Optional.empty();
+        }
+    }
+
+    // 같은 이름의 패키지라도 클래스로더마다 package-info가 다를 수 있음
+    private record PackageKey(String packageName, ClassLoader classLoader) {
+    }
+}
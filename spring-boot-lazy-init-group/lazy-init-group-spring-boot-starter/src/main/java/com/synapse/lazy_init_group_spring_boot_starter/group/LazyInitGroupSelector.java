@@ -0,0 +1,74 @@
+package com.synapse.lazy_init_group_spring_boot_starter.group;
+
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+// lazy-init.groups / lazy-init.exclude-groups / lazy-init.background-groups / lazy-init.default-lazy.eager-groups 패턴을 한 번만 컴파일하여 두 후처리기가 공유
+public class LazyInitGroupSelector {
+
+    private final LazyInitGroupMatcher lazyGroups;
+
+    private final LazyInitGroupMatcher excludeGroups;
+
+    private final LazyInitGroupMatcher eagerGroups;
+
+    private final LazyInitGroupMatcher backgroundGroups;
+
+    public LazyInitGroupSelector(LazyInitGroupMatcher lazyGroups, LazyInitGroupMatcher excludeGroups) {
+        this(lazyGroups, excludeGroups, LazyInitGroupMatcher.compile(List.of()));
+    }
+
+    public LazyInitGroupSelector(LazyInitGroupMatcher lazyGroups, LazyInitGroupMatcher excludeGroups,
+                                 LazyInitGroupMatcher eagerGroups) {
+        this(lazyGroups, excludeGroups, eagerGroups, LazyInitGroupMatcher.compile(List.of()));
+    }
+
+    public LazyInitGroupSelector(LazyInitGroupMatcher lazyGroups, LazyInitGroupMatcher excludeGroups,
+                                 LazyInitGroupMatcher eagerGroups, LazyInitGroupMatcher backgroundGroups) {
+        this.lazyGroups = lazyGroups;
+        this.excludeGroups = excludeGroups;
+        this.eagerGroups = eagerGroups;
+        this.backgroundGroups = backgroundGroups;
+    }
+
+    public static LazyInitGroupSelector from(Environment environment) {
+        return new LazyInitGroupSelector(
+            LazyInitGroupMatcher.bind(environment, "lazy-init.groups"),
+            LazyInitGroupMatcher.bind(environment, "lazy-init.exclude-groups"),
+            LazyInitGroupMatcher.bind(environment, "lazy-init.default-lazy.eager-groups"),
+            LazyInitGroupMatcher.bind(environment, "lazy-init.background-groups"));
+    }
+
+    public boolean isLazy(String groupName) {
+        return lazyGroups.matches(groupName);
+    }
+
+    public boolean isExcluded(String groupName) {
+        return excludeGroups.matches(groupName);
+    }
+
+    public boolean isEager(String groupName) {
+        return eagerGroups.matches(groupName);
+    }
+
+    public boolean isBackground(String groupName) {
+        return backgroundGroups.matches(groupName);
+    }
+
+    public LazyInitGroupMatcher getLazyGroups() {
+        return lazyGroups;
+    }
+
+    public LazyInitGroupMatcher getExcludeGroups() {
+        return excludeGroups;
+    }
+
+    public LazyInitGroupMatcher getEagerGroups() {
+        return eagerGroups;
+    }
+
+    public LazyInitGroupMatcher getBackgroundGroups() {
+        return backgroundGroups;
+    }
+}
@@ -0,0 +1,12 @@
+package com.synapse.lazy_init_group_spring_boot_starter.group;
+
+public enum LazyInitGroupStatus {
+
+    NOT_INITIALIZED,
+
+    INITIALIZING,
+
+    INITIALIZED,
+
+    FAILED
+}
@@ -0,0 +1,35 @@
+package com.synapse.lazy_init_group_spring_boot_starter.group;
+
+import org.springframework.beans.BeansException;
+
+import java.time.Duration;
+
+// 최근 초기화에 실패한 그룹을 재시도 대기 시간 동안 다시 생성하지 않고 즉시 실패시킬 때 발생 (원인은 캐시된 마지막 실패)
+public class LazyInitGroupUnavailableException extends BeansException {
+
+    private final String groupName;
+
+    private final int consecutiveFailures;
+
+    private final Duration retryAfter;
+
+    public LazyInitGroupUnavailableException(String groupName, int consecutiveFailures, Duration retryAfter, Throwable lastFailure) {
+        super("LazyInitGroup '" + groupName + "' 초기화가 " + consecutiveFailures + " 회 연속 실패하여 "
+              + retryAfter.toMillis() + " ms 후까지 사용할 수 없습니다", lastFailure);
+        this.groupName = groupName;
+        this.consecutiveFailures = consecutiveFailures;
+        this.retryAfter = retryAfter;
+    }
+
+    public String getGroupName() {
+        return groupName;
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,105 @@
+package com.synapse.lazy_init_group_spring_boot_starter.heap;
+
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupInitializedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 그룹 초기화가 끝나면 별도 스레드에서 그룹 싱글톤 그래프의 유지 힙 크기를 추정
+public class LazyInitGroupHeapAccountant implements ApplicationListener<LazyInitGroupInitializedEvent>, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyInitGroupHeapAccountant.class);
+
+    private final ConfigurableListableBeanFactory beanFactory;
+
+    private final RetainedSizeEstimator estimator;
+
+    private final Instant startedAt = Instant.ofEpochMilli(ManagementFactory.getRuntimeMXBean().getStartTime());
+
+    private final Map<String, LazyInitGroupHeapEstimate> estimates = new ConcurrentHashMap<>();
+
+    private final ExecutorService executor;
+
+    public LazyInitGroupHeapAccountant(ConfigurableListableBeanFactory beanFactory, int maxObjects) {
+        this.beanFactory = beanFactory;
+        this.estimator = new RetainedSizeEstimator(maxObjects);
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("lazy-init-heap-");
+        threadFactory.setDaemon(true);
+        threadFactory.setThreadPriority(Thread.MIN_PRIORITY);
+        this.executor = Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    @Override
+    public void onApplicationEvent(LazyInitGroupInitializedEvent event) {
+        executor.execute(() -> {
+            try {
+                account(event);
+            } catch (RuntimeException e) {
+                logger.debug("그룹 '{}' 유지 힙 추정 중 오류: {}", event.getGroupName(), e.getMessage());
+            }
+        });
+    }
+
+    private void account(LazyInitGroupInitializedEvent event) {
+        Set<String> groupBeanNames = event.getBeanNames();
+
+        // 이벤트는 마지막 빈의 생성 완료 직전에 발행되므로 getBean으로 싱글톤 등록 완료를 기다린 뒤 순회
+        List<Object> roots = new ArrayList<>();
+        for (String beanName : groupBeanNames) {
+            roots.add(beanFactory.getBean(beanName));
+        }
+
+        List<Object> otherSingletons = new ArrayList<>();
+        for (String singletonName : beanFactory.getSingletonNames()) {
+            if (!groupBeanNames.contains(singletonName)) {
+                Object singleton = beanFactory.getSingleton(singletonName);
+                if (singleton != null) {
+                    otherSingletons.add(singleton);
+                }
+            }
+        }
+
+        RetainedSizeEstimator.Estimate estimate = estimator.estimate(roots, otherSingletons);
+        Duration delay = Duration.between(startedAt, event.getInitializedAt());
+        LazyInitGroupHeapEstimate heapEstimate = new LazyInitGroupHeapEstimate(
+            event.getGroupName(), estimate.retainedBytes(), estimate.objectCount(), estimate.truncated(),
+            event.getInitializationTime(), delay.isNegative() ? Duration.ZERO : delay);
+        estimates.put(event.getGroupName(), heapEstimate);
+
+        logger.info("[LAZY-INIT] LazyInitGroup '{}' 유지 힙 추정: {} KB (객체 {} 개{}), 시작 후 {} 초 지연, 약 {} KB·분 절감",
+                   event.getGroupName(), estimate.retainedBytes() / 1024, estimate.objectCount(),
+                   estimate.truncated() ? ", 순회 한도 도달" : "", heapEstimate.delaySinceStartup().toSeconds(),
+                   Math.round(heapEstimate.savedByteMinutes() / 1024));
+    }
+
+    public LazyInitGroupHeapEstimate getEstimate(String groupName) {
+        return estimates.get(groupName);
+    }
+
+    // 지연으로 절감한 메모리(byte·분)가 큰 순서
+    public List<LazyInitGroupHeapEstimate> getEstimates() {
+        return estimates.values().stream()
+            .sorted(LazyInitGroupHeapEstimate.BY_SAVED_BYTE_MINUTES)
+            .toList();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
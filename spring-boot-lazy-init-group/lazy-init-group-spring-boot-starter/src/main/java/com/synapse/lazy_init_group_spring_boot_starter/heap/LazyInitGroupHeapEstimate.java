@@ -0,0 +1,17 @@
+package com.synapse.lazy_init_group_spring_boot_starter.heap;
+
+import java.time.Duration;
+import java.util.Comparator;
+
+public record LazyInitGroupHeapEstimate(String groupName, long retainedBytes, int objectCount, boolean truncated,
+                                        Duration initializationTime, Duration delaySinceStartup) {
+
+    // 절감량이 큰 순서. 크기가 같으면 오래 지연된 그룹이, 지연이 같으면 큰 그룹이 앞에 옴
+    public static final Comparator<LazyInitGroupHeapEstimate> BY_SAVED_BYTE_MINUTES =
+        Comparator.comparingDouble(LazyInitGroupHeapEstimate::savedByteMinutes).reversed();
+
+    // 지연하는 동안 점유하지 않은 메모리의 누적량(byte·분). 유지 힙과 지연 시간 모두에 비례하므로 시작 직후 초기화된 그룹은 0에 가까움
+    public double savedByteMinutes() {
+        return retainedBytes * (delaySinceStartup.toMillis() / 60_000.0);
+    }
+}
@@ -0,0 +1,194 @@
+package com.synapse.lazy_init_group_spring_boot_starter.heap;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.context.ApplicationContext;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 루트 객체에서 도달 가능한 객체 그래프를 리플렉션으로 제한된 개수만큼 순회하여 유지 힙 크기를 추정.
+// 다른 싱글톤 빈과 그 빈에서 도달 가능한 객체처럼 그룹 밖에서도 참조되는 객체는 그룹 크기에 포함하지 않음
+public class RetainedSizeEstimator {
+
+    // 64bit JVM + compressed oops 기준
+    private static final int OBJECT_HEADER_SIZE = 12;
+
+    private static final int ARRAY_HEADER_SIZE = 16;
+
+    private static final int REFERENCE_SIZE = 4;
+
+    private static final int ALIGNMENT = 8;
+
+    // 내부 구조를 읽을 수 없는 JDK 컬렉션의 원소당 오버헤드 근사값 (배열 슬롯 + 노드)
+    private static final int COLLECTION_ENTRY_SIZE = 8;
+
+    private static final int MAP_ENTRY_SIZE = 40;
+
+    private final Map<Class<?>, ClassLayout> layouts = new ConcurrentHashMap<>();
+
+    private final int maxObjects;
+
+    public RetainedSizeEstimator(int maxObjects) {
+        this.maxObjects = maxObjects;
+    }
+
+    public Estimate estimate(Collection<?> roots, Collection<?> otherRoots) {
+        Set<Object> rootSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        rootSet.addAll(roots);
+
+        // 다른 싱글톤에서 (그룹 빈을 거치지 않고) 도달 가능한 객체는 그룹이 초기화되지 않았어도 힙에 남아 있으므로 먼저 표시해 제외.
+        // 이 표시도 순회 한도 안에서만 하므로 한도를 넘는 큰 애플리케이션에서는 일부 공유 객체가 그룹 크기에 포함될 수 있음
+        Set<Object> shared = Collections.newSetFromMap(new IdentityHashMap<>());
+        walk(otherRoots, rootSet, shared);
+
+        return walk(roots, shared, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private Estimate walk(Collection<?> roots, Set<Object> excluded, Set<Object> visited) {
+        Deque<Object> pending = new ArrayDeque<>();
+        roots.forEach(root -> push(pending, root));
+        long totalBytes = 0;
+        int objectCount = 0;
+
+        while (!pending.isEmpty()) {
+            if (objectCount >= maxObjects) {
+                return new Estimate(totalBytes, objectCount, true);
+            }
+
+            Object current = pending.pop();
+            if (current == null || excluded.contains(current) || !visited.add(current) || isShared(current)) {
+                continue;
+            }
+
+            objectCount++;
+            totalBytes += visit(current, pending);
+        }
+
+        return new Estimate(totalBytes, objectCount, false);
+    }
+
+    // 객체 자신의 크기를 반환하고 참조하는 객체를 순회 대상에 추가
+    private long visit(Object current, Deque<Object> pending) {
+        Class<?> type = current.getClass();
+
+        if (type.isArray()) {
+            int length = Array.getLength(current);
+            Class<?> componentType = type.getComponentType();
+            if (!componentType.isPrimitive()) {
+                for (int i = 0; i < length; i++) {
+                    push(pending, Array.get(current, i));
+                }
+            }
+            return align(ARRAY_HEADER_SIZE + (long) length * sizeOf(componentType));
+        }
+
+        // java.base 내부 필드는 리플렉션으로 읽을 수 없으므로 자주 쓰이는 String/컬렉션은 공개 API로 보정
+        if (current instanceof String string) {
+            return align(OBJECT_HEADER_SIZE + 12) + align(ARRAY_HEADER_SIZE + string.length());
+        }
+        if (isJdkType(type) && current instanceof Collection<?> collection) {
+            try {
+                collection.forEach(element -> push(pending, element));
+            } catch (RuntimeException ignored) {
+                // 순회 중 동시 수정된 컬렉션은 원소를 건너뜀
+            }
+            return align(OBJECT_HEADER_SIZE + 16) + (long) collection.size() * COLLECTION_ENTRY_SIZE;
+        }
+        if (isJdkType(type) && current instanceof Map<?, ?> map) {
+            try {
+                map.forEach((key, value) -> {
+                    push(pending, key);
+                    push(pending, value);
+                });
+            } catch (RuntimeException ignored) {
+                // 순회 중 동시 수정된 맵은 원소를 건너뜀
+            }
+            return align(OBJECT_HEADER_SIZE + 16) + (long) map.size() * MAP_ENTRY_SIZE;
+        }
+
+        ClassLayout layout = layouts.computeIfAbsent(type, ClassLayout::of);
+        for (Field field : layout.referenceFields()) {
+            try {
+                push(pending, field.get(current));
+            } catch (IllegalAccessException | RuntimeException ignored) {
+                // 접근할 수 없는 필드는 하위 그래프를 건너뜀
+            }
+        }
+        return layout.shallowSize();
+    }
+
+    private static void push(Deque<Object> pending, Object value) {
+        if (value != null) {
+            pending.push(value);
+        }
+    }
+
+    private static boolean isJdkType(Class<?> type) {
+        return type.getName().startsWith("java.");
+    }
+
+    // 클래스/클래스로더/스레드/컨테이너/enum 상수처럼 애플리케이션 전체가 공유하는 객체는 그룹 크기에서 제외
+    private boolean isShared(Object object) {
+        return object instanceof Class<?>
+            || object instanceof ClassLoader
+            || object instanceof Thread
+            || object instanceof Enum<?>
+            || object instanceof BeanFactory
+            || object instanceof ApplicationContext;
+    }
+
+    private static long sizeOf(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE_SIZE;
+    }
+
+    private static long align(long size) {
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    public record Estimate(long retainedBytes, int objectCount, boolean truncated) {
+    }
+
+    private record ClassLayout(long shallowSize, List<Field> referenceFields) {
+
+        static ClassLayout of(Class<?> type) {
+            long size = OBJECT_HEADER_SIZE;
+            List<Field> referenceFields = new ArrayList<>();
+
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    size += sizeOf(field.getType());
+                    if (!field.getType().isPrimitive() && field.trySetAccessible()) {
+                        referenceFields.add(field);
+                    }
+                }
+            }
+            return new ClassLayout(align(size), List.copyOf(referenceFields));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.synapse.lazy_init_group_spring_boot_starter.preload;
+
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ResolvableType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 애플리케이션 준비 후 낮은 우선순위 스레드에서 지연 그룹 빈의 클래스와 선언된 의존 타입을 미리 로드.
+// 빈 인스턴스는 만들지 않으므로 메모리 사용은 그대로 지연되고, 첫 호출 시 클래스 로딩/링크 비용만 줄어듦
+public class LazyInitGroupClassPreloader implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyInitGroupClassPreloader.class);
+
+    private final ConfigurableListableBeanFactory beanFactory;
+
+    private final LazyInitGroupRegistry registry;
+
+    private final boolean initialize;
+
+    private final ExecutorService executor;
+
+    private volatile CompletableFuture<Void> completion;
+
+    public LazyInitGroupClassPreloader(ConfigurableListableBeanFactory beanFactory, LazyInitGroupRegistry registry,
+                                       boolean initialize) {
+        this.beanFactory = beanFactory;
+        this.registry = registry;
+        this.initialize = initialize;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("lazy-init-preload-");
+        threadFactory.setDaemon(true);
+        threadFactory.setThreadPriority(Thread.MIN_PRIORITY);
+        this.executor = Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        completion = CompletableFuture.runAsync(this::preload, executor)
+            .whenComplete((result, ex) -> {
+                if (ex != null) {
+                    logger.warn("[LAZY-INIT] 지연 그룹 클래스 사전 로딩 실패: {}", ex.getMessage());
+                }
+            });
+    }
+
+    private void preload() {
+        for (String groupName : registry.getGroupNames()) {
+            long startTime = System.nanoTime();
+            Set<Class<?>> types = new LinkedHashSet<>();
+
+            for (String beanName : registry.getBeanNames(groupName)) {
+                // 이미 생성된 빈은 클래스도 로드되어 있으므로 건너뜀
+                if (beanFactory.containsSingleton(beanName)) {
+                    continue;
+                }
+                Class<?> beanType = beanFactory.getType(beanName, false);
+                if (beanType != null) {
+                    collectTypes(ClassUtils.getUserClass(beanType), types);
+                }
+            }
+
+            int loadedCount = 0;
+            for (Class<?> type : types) {
+                if (loadClass(type)) {
+                    loadedCount++;
+                }
+            }
+
+            logger.info("[LAZY-INIT] LazyInitGroup '{}' 클래스 사전 로딩 완료: {} 개 클래스{}, {} ms",
+                       groupName, loadedCount, initialize ? " (정적 초기화 포함)" : "",
+                       (System.nanoTime() - startTime) / 1_000_000);
+        }
+    }
+
+    // 빈 클래스 계층과 생성자/필드/메서드에 선언된 타입(제네릭 인자 포함)을 수집.
+    // 리플렉션 조회 자체가 해당 타입을 로드하고, 스프링의 선언 필드/메서드 캐시도 채움
+    private void collectTypes(Class<?> beanClass, Set<Class<?>> types) {
+        for (Class<?> current = beanClass; current != null && current != Object.class; current = current.getSuperclass()) {
+            if (!addType(current, types)) {
+                continue;
+            }
+            for (Class<?> interfaceType : current.getInterfaces()) {
+                addType(interfaceType, types);
+            }
+            for (Constructor<?> constructor : current.getDeclaredConstructors()) {
+                for (Class<?> parameterType : constructor.getParameterTypes()) {
+                    addType(parameterType, types);
+                }
+            }
+            ReflectionUtils.doWithLocalFields(current, field -> addDeclaredType(ResolvableType.forField(field), types));
+            ReflectionUtils.doWithLocalMethods(current, method -> {
+                if (Modifier.isPublic(method.getModifiers())) {
+                    addDeclaredType(ResolvableType.forMethodReturnType(method), types);
+                    for (int i = 0; i < method.getParameterCount(); i++) {
+                        addDeclaredType(ResolvableType.forMethodParameter(method, i), types);
+                    }
+                }
+            });
+        }
+    }
+
+    private void addDeclaredType(ResolvableType declaredType, Set<Class<?>> types) {
+        addType(declaredType.resolve(), types);
+        for (ResolvableType generic : declaredType.getGenerics()) {
+            addType(generic.resolve(), types);
+        }
+    }
+
+    // JDK 클래스와 원시 타입은 이미 로드되어 있으므로 제외
+    private boolean addType(Class<?> type, Set<Class<?>> types) {
+        while (type != null && type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type == null || type.isPrimitive() || type.getName().startsWith("java.")) {
+            return false;
+        }
+        return types.add(type);
+    }
+
+    private boolean loadClass(Class<?> type) {
+        if (!initialize) {
+            return true;
+        }
+        try {
+            Class.forName(type.getName(), true, type.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            logger.debug("클래스 '{}' 정적 초기화 실패: {}", type.getName(), e.getMessage());
+            return false;
+        }
+    }
+
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,98 @@
+package com.synapse.lazy_init_group_spring_boot_starter.processor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.core.env.Environment;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+// 빈 정의별 @LazyInitGroup 그룹명 판별(클래스 로딩 + 애노테이션 조회)을 ForkJoinPool에서 병렬로 수행.
+// 레지스트리 변경(setLazyInit, removeBeanDefinition)은 호출한 후처리기가 결과를 받아 단일 스레드에서 적용
+public class BeanDefinitionClassifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(BeanDefinitionClassifier.class);
+
+    // 이보다 적은 빈 정의는 스레드 전환 비용이 더 크므로 순차 처리
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    private final int parallelism;
+
+    public BeanDefinitionClassifier(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public static BeanDefinitionClassifier sequential() {
+        return new BeanDefinitionClassifier(1);
+    }
+
+    public static BeanDefinitionClassifier from(Environment environment) {
+        if (!environment.getProperty("lazy-init.parallel-classification.enabled", Boolean.class, false)) {
+            return sequential();
+        }
+        return new BeanDefinitionClassifier(environment.getProperty(
+            "lazy-init.parallel-classification.parallelism", Integer.class, Runtime.getRuntime().availableProcessors()));
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    // 그룹이 있는 빈만 등록 순서대로 반환 (빈 이름 -> 그룹명)
+    public Map<String, String> classify(String[] beanNames, Function<String, BeanDefinition> definitionLookup,
+                                        Function<BeanDefinition, Optional<String>> groupExtractor) {
+        String[] groupNames = new String[beanNames.length];
+
+        if (parallelism == 1 || beanNames.length < PARALLEL_THRESHOLD) {
+            for (int i = 0; i < beanNames.length; i++) {
+                groupNames[i] = classify(beanNames[i], definitionLookup, groupExtractor);
+            }
+        } else {
+            classifyInParallel(beanNames, definitionLookup, groupExtractor, groupNames);
+        }
+
+        Map<String, String> result = new LinkedHashMap<>();
+        for (int i = 0; i < beanNames.length; i++) {
+            if (groupNames[i] != null) {
+                result.put(beanNames[i], groupNames[i]);
+            }
+        }
+        return result;
+    }
+
+    private void classifyInParallel(String[] beanNames, Function<String, BeanDefinition> definitionLookup,
+                                    Function<BeanDefinition, Optional<String>> groupExtractor, String[] groupNames) {
+        long startTime = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.submit(() -> IntStream.range(0, beanNames.length).parallel()
+                    .forEach(i -> groupNames[i] = classify(beanNames[i], definitionLookup, groupExtractor)))
+                .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("빈 정의 병렬 분류가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("빈 정의 병렬 분류 중 오류가 발생했습니다.", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        logger.debug("빈 정의 {} 개 병렬 분류 완료 (병렬도 {}): {} ms",
+                   beanNames.length, parallelism, (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    private String classify(String beanName, Function<String, BeanDefinition> definitionLookup,
+                            Function<BeanDefinition, Optional<String>> groupExtractor) {
+        try {
+            return groupExtractor.apply(definitionLookup.apply(beanName)).orElse(null);
+        } catch (Exception | LinkageError e) {
+            logger.debug("빈 '{}' 처리 중 오류 발생: {}", beanName, e.getMessage());
+            return null;
+        }
+    }
+}
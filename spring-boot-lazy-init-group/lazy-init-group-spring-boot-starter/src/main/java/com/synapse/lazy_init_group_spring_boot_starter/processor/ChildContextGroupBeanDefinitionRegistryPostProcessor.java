@@ -0,0 +1,132 @@
+package com.synapse.lazy_init_group_spring_boot_starter.processor;
+
+import com.synapse.lazy_init_group_spring_boot_starter.context.LazyInitGroupChildContextManager;
+import com.synapse.lazy_init_group_spring_boot_starter.context.LazyInitGroupChildContextProxyFactoryBean;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupMatcher;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Optional;
+
+// 자식 컨텍스트 그룹의 빈 정의를 부모 컨텍스트에서 꺼내 LazyInitGroupChildContextManager로 옮기고,
+// 원래 이름에는 자식 컨텍스트의 빈에 위임하는 프록시를 등록
+public class ChildContextGroupBeanDefinitionRegistryPostProcessor implements BeanDefinitionRegistryPostProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChildContextGroupBeanDefinitionRegistryPostProcessor.class);
+
+    private final LazyInitGroupResolver groupResolver;
+
+    private final Environment environment;
+
+    private final LazyInitGroupChildContextManager childContextManager;
+
+    public ChildContextGroupBeanDefinitionRegistryPostProcessor(Environment environment,
+                                                                 LazyInitGroupChildContextManager childContextManager) {
+        this(environment, childContextManager, LazyInitGroupResolver.from(environment));
+    }
+
+    public ChildContextGroupBeanDefinitionRegistryPostProcessor(Environment environment,
+                                                                 LazyInitGroupChildContextManager childContextManager,
+                                                                 LazyInitGroupResolver groupResolver) {
+        this.environment = environment;
+        this.childContextManager = childContextManager;
+        this.groupResolver = groupResolver;
+    }
+
+    @Override
+    public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) throws BeansException {
+        logger.debug("ChildContextGroupBeanDefinitionRegistryPostProcessor.postProcessBeanDefinitionRegistry 시작");
+
+        LazyInitGroupMatcher childContextGroups = LazyInitGroupMatcher.bind(environment, "lazy-init.child-context.groups");
+
+        if (childContextGroups.isEmpty()) {
+            return;
+        }
+
+        logger.debug("자식 컨텍스트로 분리할 그룹 목록: {}", childContextGroups);
+
+        String[] beanNames = registry.getBeanDefinitionNames();
+        int movedCount = 0;
+
+        for (String beanName : beanNames) {
+            try {
+                BeanDefinition beanDefinition = registry.getBeanDefinition(beanName);
+
+                Optional<String> groupName = groupResolver.resolve(beanDefinition);
+
+                if (groupName.isPresent() && childContextGroups.matches(groupName.get())
+                        && moveToChildContext(registry, beanName, beanDefinition, groupName.get())) {
+                    movedCount++;
+                }
+            } catch (Exception e) {
+                logger.debug("빈 '{}' 처리 중 오류 발생: {}", beanName, e.getMessage());
+            }
+        }
+
+        logger.debug("ChildContextGroupBeanDefinitionRegistryPostProcessor 완료: 총 {} 개의 빈 정의를 자식 컨텍스트로 옮겼습니다.", movedCount);
+    }
+
+    private boolean moveToChildContext(BeanDefinitionRegistry registry, String beanName, BeanDefinition beanDefinition,
+                                       String groupName) {
+        Class<?> beanClass = LazyInitGroupResolver.getBeanClass(beanDefinition);
+
+        if (!beanDefinition.isSingleton() || beanClass == null) {
+            logger.debug("빈 '{}' (그룹: '{}')은 자식 컨텍스트로 옮길 수 없어 부모 컨텍스트에 남깁니다.", beanName, groupName);
+            return false;
+        }
+
+        RootBeanDefinition proxyDefinition = new RootBeanDefinition(LazyInitGroupChildContextProxyFactoryBean.class);
+        proxyDefinition.setSource(beanDefinition.getSource());
+        proxyDefinition.setRole(beanDefinition.getRole());
+        proxyDefinition.setPrimary(beanDefinition.isPrimary());
+        proxyDefinition.setAutowireCandidate(beanDefinition.isAutowireCandidate());
+        proxyDefinition.getPropertyValues().add("childContextManager", childContextManager);
+        proxyDefinition.getPropertyValues().add("groupName", groupName);
+        proxyDefinition.getPropertyValues().add("targetBeanName", beanName);
+        if (beanDefinition instanceof AbstractBeanDefinition abstractDefinition) {
+            proxyDefinition.copyQualifiersFrom(abstractDefinition);
+        }
+
+        if (childContextManager.isIsolated(beanClass.getName())) {
+            // 격리 클래스는 자식 클래스로더에서 다시 정의되므로 부모에서는 공유 인터페이스로만 노출 가능
+            Class<?>[] proxyInterfaces = Arrays.stream(ClassUtils.getAllInterfacesForClass(beanClass))
+                .filter(type -> !childContextManager.isIsolated(type.getName()))
+                .toArray(Class<?>[]::new);
+            if (proxyInterfaces.length == 0) {
+                logger.warn("빈 '{}' (그룹: '{}')은 격리 패키지에 속하지만 격리되지 않은 인터페이스가 없어 부모 컨텍스트에 남깁니다.",
+                          beanName, groupName);
+                return false;
+            }
+            proxyDefinition.getPropertyValues().add("proxyInterfaces", proxyInterfaces);
+            if (proxyInterfaces.length == 1) {
+                proxyDefinition.setAttribute(FactoryBean.OBJECT_TYPE_ATTRIBUTE, proxyInterfaces[0]);
+            }
+        } else {
+            if (Modifier.isFinal(beanClass.getModifiers())) {
+                logger.debug("빈 '{}' (그룹: '{}')은 final 클래스라 프록시를 만들 수 없어 부모 컨텍스트에 남깁니다.", beanName, groupName);
+                return false;
+            }
+            proxyDefinition.getPropertyValues().add("targetClass", beanClass);
+            proxyDefinition.setAttribute(FactoryBean.OBJECT_TYPE_ATTRIBUTE, beanClass);
+        }
+
+        registry.removeBeanDefinition(beanName);
+        childContextManager.registerBeanDefinition(groupName, beanName, beanDefinition);
+        registry.registerBeanDefinition(beanName, proxyDefinition);
+
+        logger.debug("빈 '{}' (그룹: '{}')을 자식 컨텍스트로 옮기고 프록시를 등록했습니다.", beanName, groupName);
+        return true;
+    }
+}
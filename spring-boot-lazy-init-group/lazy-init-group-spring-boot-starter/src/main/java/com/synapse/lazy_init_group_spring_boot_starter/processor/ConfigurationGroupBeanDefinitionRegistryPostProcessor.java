@@ -0,0 +1,387 @@
+package com.synapse.lazy_init_group_spring_boot_starter.processor;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.context.annotation.ImportSelector;
+import org.springframework.context.annotation.ScannedGenericBeanDefinition;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// @LazyInitGroup이 붙은 설정 클래스가 만든 빈 정의(@Bean 메서드, 중첩 설정, @Import 대상과 등록기가 등록한 빈)에
+// 같은 그룹을 빈 정의 속성으로 기록. 다른 후처리기보다 먼저 실행되어 지연/제외/자식 컨텍스트 처리에 모두 반영됨.
+// @Import 대상 등록기/선택기는 다시 실행하지 않고, 등록기가 만든 빈은 설정 클래스 처리 전후의 빈 정의를 비교하여 찾음
+public class ConfigurationGroupBeanDefinitionRegistryPostProcessor implements BeanDefinitionRegistryPostProcessor, Ordered {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConfigurationGroupBeanDefinitionRegistryPostProcessor.class);
+
+    private final LazyInitGroupResolver groupResolver;
+
+    public ConfigurationGroupBeanDefinitionRegistryPostProcessor(Environment environment) {
+        this(LazyInitGroupResolver.from(environment));
+    }
+
+    public ConfigurationGroupBeanDefinitionRegistryPostProcessor(LazyInitGroupResolver groupResolver) {
+        this.groupResolver = groupResolver;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) throws BeansException {
+        ClassLoader classLoader = registry instanceof ConfigurableListableBeanFactory beanFactory
+            ? beanFactory.getBeanClassLoader() : ClassUtils.getDefaultClassLoader();
+        Map<String, String> groupByClassName = new HashMap<>();
+        Set<String> registrarImporters = new HashSet<>();
+        Set<Class<?>> visited = new HashSet<>();
+
+        for (String beanName : registry.getBeanDefinitionNames()) {
+            BeanDefinition beanDefinition = registry.getBeanDefinition(beanName);
+            Class<?> beanClass = loadClass(beanDefinition.getBeanClassName(), classLoader);
+            if (beanClass == null || beanDefinition.getFactoryMethodName() != null || !isConfigurationCandidate(beanClass)) {
+                continue;
+            }
+            Optional<String> groupName = groupResolver.resolve(beanClass);
+            if (groupName.isPresent()) {
+                collect(beanClass, groupName.get(), groupByClassName, registrarImporters, visited);
+            }
+        }
+        Map<String, String> groupByRegisteredName = collectRegistered(registry, classLoader, groupByClassName, registrarImporters);
+
+        if (groupByClassName.isEmpty() && !hasMethodGroups(registry)) {
+            return;
+        }
+
+        int inheritedCount = 0;
+        for (String beanName : registry.getBeanDefinitionNames()) {
+            BeanDefinition beanDefinition = registry.getBeanDefinition(beanName);
+            String groupName = determineGroup(beanName, beanDefinition, classLoader, groupByClassName, groupByRegisteredName);
+            if (groupName != null) {
+                beanDefinition.setAttribute(LazyInitGroupResolver.GROUP_ATTRIBUTE, groupName);
+                inheritedCount++;
+                logger.debug("빈 '{}'이 설정 클래스의 그룹 '{}'을 물려받았습니다.", beanName, groupName);
+            }
+        }
+
+        logger.debug("ConfigurationGroupBeanDefinitionRegistryPostProcessor 완료: 총 {} 개의 빈 정의에 그룹을 기록했습니다.", inheritedCount);
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+    }
+
+    // 설정 클래스 자신, 중첩 설정 클래스, @Import 대상 클래스의 그룹과 등록기를 가져오는 설정 클래스를 수집
+    private void collect(Class<?> configClass, String groupName, Map<String, String> groupByClassName,
+                         Set<String> registrarImporters, Set<Class<?>> visited) {
+        if (!visited.add(configClass)) {
+            return;
+        }
+        groupByClassName.putIfAbsent(configClass.getName(), groupName);
+        AnnotationMetadata metadata = AnnotationMetadata.introspect(configClass);
+
+        for (Class<?> memberClass : configClass.getDeclaredClasses()) {
+            if (isConfigurationCandidate(memberClass)) {
+                collect(memberClass, ownGroup(memberClass).orElse(groupName), groupByClassName, registrarImporters, visited);
+            }
+        }
+
+        metadata.getAnnotations().stream(Import.class)
+            .map(annotation -> annotation.getClassArray(MergedAnnotation.VALUE))
+            .forEach(importedClasses -> {
+                for (Class<?> importedClass : importedClasses) {
+                    collectImport(importedClass, configClass, groupName, groupByClassName, registrarImporters, visited);
+                }
+            });
+    }
+
+    private void collectImport(Class<?> importedClass, Class<?> importingClass, String groupName,
+                               Map<String, String> groupByClassName, Set<String> registrarImporters,
+                               Set<Class<?>> visited) {
+        try {
+            if (ImportBeanDefinitionRegistrar.class.isAssignableFrom(importedClass)) {
+                registrarImporters.add(importingClass.getName());
+            } else if (ImportSelector.class.isAssignableFrom(importedClass)) {
+                // 선택 결과는 선택기를 실행해야 알 수 있으므로 그룹 전파 대상에서 제외
+                logger.debug("ImportSelector '{}'는 그룹 전파 대상에서 제외합니다.", importedClass.getName());
+            } else {
+                collect(importedClass, ownGroup(importedClass).orElse(groupName), groupByClassName, registrarImporters, visited);
+            }
+        } catch (Exception | LinkageError e) {
+            logger.debug("@Import 대상 '{}' 처리 중 오류 발생: {}", importedClass.getName(), e.getMessage());
+        }
+    }
+
+    // ConfigurationClassPostProcessor는 설정 클래스마다 가져온 설정 클래스 자신, @Bean 메서드, 등록기 순으로 빈 정의를 등록하므로,
+    // 설정 클래스 처리 중 새로 생긴 빈 정의를 등록 순서대로 나누어 각 설정 클래스의 빈 정의 뒤에 이어진 구간을 찾음.
+    // 자신의 빈 정의를 남기지 않는 설정 클래스(@Bean 메서드가 없는 @SpringBootApplication 클래스 등)의 등록기 빈도 같은 구간에 섞일 수 있으므로,
+    // 설정 클래스는 자신이 가져오거나 스캔한 클래스보다 나중에 처리된다는 순서로 그런 클래스가 끼어들 수 없음을 보인 구간만 귀속하고 나머지는 그룹 없이 둠
+    private Map<String, String> collectRegistered(BeanDefinitionRegistry registry, ClassLoader classLoader,
+                                                  Map<String, String> groupByClassName, Set<String> registrarImporters) {
+        Map<String, String> groupByRegisteredName = new HashMap<>();
+        Set<String> existingNames = ConfigurationGroupSnapshotInitializer.getBeanNamesBeforeConfiguration(registry);
+        if (registrarImporters.isEmpty() || existingNames == null) {
+            // 설정 클래스 처리 전 상태를 모르면 어느 빈 정의가 등록기에서 왔는지 구분할 수 없음
+            return groupByRegisteredName;
+        }
+
+        List<RegisteredRun> runs = new ArrayList<>();
+        Set<String> ownerClassNames = new HashSet<>();
+        String ownerClassName = null;
+        RegisteredRun currentRun = null;
+        for (String beanName : registry.getBeanDefinitionNames()) {
+            if (existingNames.contains(beanName)) {
+                continue;
+            }
+            BeanDefinition beanDefinition = registry.getBeanDefinition(beanName);
+            if (beanDefinition instanceof AnnotatedBeanDefinition annotated) {
+                MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+                // 스캔된 컴포넌트는 파싱 중 한꺼번에 등록되므로 뒤따르는 구간의 소유자를 알 수 없음
+                ownerClassName = factoryMethod != null ? factoryMethod.getDeclaringClassName()
+                    : beanDefinition instanceof ScannedGenericBeanDefinition ? null : annotated.getMetadata().getClassName();
+                if (currentRun != null && ownerClassName != null && !ownerClassName.equals(currentRun.ownerClassName)) {
+                    currentRun.nextOwnerClassName = ownerClassName;
+                }
+                if (ownerClassName != null) {
+                    ownerClassNames.add(ownerClassName);
+                }
+                currentRun = null;
+            } else if (ownerClassName != null) {
+                if (currentRun == null) {
+                    currentRun = new RegisteredRun(ownerClassName);
+                    runs.add(currentRun);
+                }
+                currentRun.beanNames.add(beanName);
+            }
+        }
+
+        Set<Class<?>> silentImporters = findSilentImporters(registry, classLoader, ownerClassNames);
+        Set<String> scannedClassNames = findScannedClassNames(registry);
+        Map<Class<?>, Set<String>> subtrees = new HashMap<>();
+        for (RegisteredRun run : runs) {
+            String groupName = groupByClassName.get(run.ownerClassName);
+            if (groupName == null || !registrarImporters.contains(run.ownerClassName)) {
+                continue;
+            }
+            Class<?> ownerClass = loadClass(run.ownerClassName, classLoader);
+            Set<String> ownerSubtree = ownerClass != null ? subtree(ownerClass, scannedClassNames, classLoader, subtrees) : Set.of();
+            boolean ambiguous = silentImporters.stream().anyMatch(importer ->
+                !ownerSubtree.contains(importer.getName())
+                    && (run.nextOwnerClassName == null
+                        || !subtree(importer, scannedClassNames, classLoader, subtrees).contains(run.nextOwnerClassName)));
+            if (ambiguous) {
+                logger.debug("설정 클래스 '{}' 뒤에 등록된 빈 {}은 다른 설정 클래스의 등록기가 등록했을 수 있어 그룹을 전파하지 않습니다.",
+                           run.ownerClassName, run.beanNames);
+                continue;
+            }
+            run.beanNames.forEach(beanName -> groupByRegisteredName.putIfAbsent(beanName, groupName));
+        }
+        return groupByRegisteredName;
+    }
+
+    // 등록기나 선택기를 가져오지만 자신의 빈 정의(가져온 설정 클래스 자신, @Bean 메서드)를 남기지 않아 등록 순서상 경계가 보이지 않는 설정 클래스
+    private Set<Class<?>> findSilentImporters(BeanDefinitionRegistry registry, ClassLoader classLoader, Set<String> ownerClassNames) {
+        Set<Class<?>> silentImporters = new HashSet<>();
+        for (String beanName : registry.getBeanDefinitionNames()) {
+            BeanDefinition beanDefinition = registry.getBeanDefinition(beanName);
+            if (beanDefinition.getFactoryMethodName() != null || ownerClassNames.contains(beanDefinition.getBeanClassName())) {
+                continue;
+            }
+            Class<?> beanClass = loadClass(beanDefinition.getBeanClassName(), classLoader);
+            if (beanClass != null && isConfigurationCandidate(beanClass) && importsRegistrarOrSelector(beanClass)) {
+                silentImporters.add(beanClass);
+            }
+        }
+        return silentImporters;
+    }
+
+    // 확인할 수 없으면 가져오는 것으로 간주하여 귀속을 덜 하는 쪽으로 판단
+    private static boolean importsRegistrarOrSelector(Class<?> configClass) {
+        try {
+            return AnnotationMetadata.introspect(configClass).getAnnotations().stream(Import.class)
+                .flatMap(annotation -> Arrays.stream(annotation.getClassArray(MergedAnnotation.VALUE)))
+                .anyMatch(importedClass -> ImportBeanDefinitionRegistrar.class.isAssignableFrom(importedClass)
+                    || ImportSelector.class.isAssignableFrom(importedClass));
+        } catch (Exception | LinkageError e) {
+            return true;
+        }
+    }
+
+    private static Set<String> findScannedClassNames(BeanDefinitionRegistry registry) {
+        Set<String> scannedClassNames = new HashSet<>();
+        for (String beanName : registry.getBeanDefinitionNames()) {
+            if (registry.getBeanDefinition(beanName) instanceof ScannedGenericBeanDefinition scanned) {
+                scannedClassNames.add(scanned.getBeanClassName());
+            }
+        }
+        return scannedClassNames;
+    }
+
+    // 설정 클래스보다 먼저 처리되는 것이 확실한 클래스: 중첩 설정 클래스, @Import 대상 클래스, @ComponentScan 대상 패키지에서 스캔된 클래스와
+    // 그 하위. 선택기가 고르는 클래스는 알 수 없으므로 포함하지 않음 (포함하지 않으면 귀속을 덜 할 뿐 잘못 귀속하지는 않음)
+    private Set<String> subtree(Class<?> configClass, Set<String> scannedClassNames, ClassLoader classLoader,
+                                Map<Class<?>, Set<String>> subtrees) {
+        Set<String> cached = subtrees.get(configClass);
+        if (cached != null) {
+            return cached;
+        }
+        Set<String> classNames = new HashSet<>();
+        subtrees.put(configClass, classNames);
+        try {
+            AnnotationMetadata metadata = AnnotationMetadata.introspect(configClass);
+            List<Class<?>> children = new ArrayList<>();
+            for (Class<?> memberClass : configClass.getDeclaredClasses()) {
+                if (isConfigurationCandidate(memberClass)) {
+                    children.add(memberClass);
+                }
+            }
+            metadata.getAnnotations().stream(Import.class)
+                .flatMap(annotation -> Arrays.stream(annotation.getClassArray(MergedAnnotation.VALUE)))
+                .filter(importedClass -> !ImportBeanDefinitionRegistrar.class.isAssignableFrom(importedClass)
+                    && !ImportSelector.class.isAssignableFrom(importedClass))
+                .forEach(children::add);
+            Set<String> basePackages = getScanPackages(metadata, configClass);
+            for (String scannedClassName : scannedClassNames) {
+                if (basePackages.stream().anyMatch(basePackage -> scannedClassName.startsWith(basePackage + "."))) {
+                    Class<?> scannedClass = loadClass(scannedClassName, classLoader);
+                    if (scannedClass != null) {
+                        children.add(scannedClass);
+                    }
+                }
+            }
+            for (Class<?> child : children) {
+                classNames.add(child.getName());
+                classNames.addAll(subtree(child, scannedClassNames, classLoader, subtrees));
+            }
+        } catch (Exception | LinkageError e) {
+            logger.debug("설정 클래스 '{}'의 하위 클래스 확인 중 오류 발생: {}", configClass.getName(), e.getMessage());
+        }
+        return classNames;
+    }
+
+    private static Set<String> getScanPackages(AnnotationMetadata metadata, Class<?> configClass) {
+        Set<String> basePackages = new HashSet<>();
+        metadata.getAnnotations().stream(ComponentScan.class).forEach(componentScan -> {
+            int declared = basePackages.size();
+            basePackages.addAll(Arrays.asList(componentScan.getStringArray("basePackages")));
+            for (Class<?> basePackageClass : componentScan.getClassArray("basePackageClasses")) {
+                basePackages.add(basePackageClass.getPackageName());
+            }
+            if (basePackages.size() == declared) {
+                basePackages.add(configClass.getPackageName());
+            }
+        });
+        return basePackages;
+    }
+
+    private static final class RegisteredRun {
+
+        private final String ownerClassName;
+
+        private final List<String> beanNames = new ArrayList<>();
+
+        private String nextOwnerClassName;
+
+        private RegisteredRun(String ownerClassName) {
+            this.ownerClassName = ownerClassName;
+        }
+    }
+
+    // 우선순위: @Bean 메서드의 @LazyInitGroup > 빈 클래스 자체의 그룹 > 선언한 설정 클래스의 그룹
+    private String determineGroup(String beanName, BeanDefinition beanDefinition, ClassLoader classLoader,
+                                  Map<String, String> groupByClassName, Map<String, String> groupByRegisteredName) {
+        MethodMetadata factoryMethod = beanDefinition instanceof AnnotatedBeanDefinition annotated
+            ? annotated.getFactoryMethodMetadata() : null;
+
+        if (factoryMethod != null) {
+            MergedAnnotation<LazyInitGroup> methodGroup = factoryMethod.getAnnotations().get(LazyInitGroup.class);
+            if (methodGroup.isPresent()) {
+                return methodGroup.getString(MergedAnnotation.VALUE);
+            }
+            String declaringGroup = groupByClassName.get(factoryMethod.getDeclaringClassName());
+            return declaringGroup != null && !hasOwnGroup(factoryMethod.getReturnTypeName(), classLoader) ? declaringGroup : null;
+        }
+
+        String groupName = beanDefinition.getBeanClassName() != null ? groupByClassName.get(beanDefinition.getBeanClassName()) : null;
+        if (groupName == null) {
+            groupName = groupByRegisteredName.get(beanName);
+        }
+        return groupName != null && !hasOwnGroup(beanDefinition.getBeanClassName(), classLoader) ? groupName : null;
+    }
+
+    private boolean hasMethodGroups(BeanDefinitionRegistry registry) {
+        for (String beanName : registry.getBeanDefinitionNames()) {
+            if (registry.getBeanDefinition(beanName) instanceof AnnotatedBeanDefinition annotated
+                && annotated.getFactoryMethodMetadata() != null
+                && annotated.getFactoryMethodMetadata().isAnnotated(LazyInitGroup.class.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasOwnGroup(String className, ClassLoader classLoader) {
+        Class<?> type = loadClass(className, classLoader);
+        return type != null && ownGroup(type).isPresent();
+    }
+
+    private Optional<String> ownGroup(Class<?> type) {
+        try {
+            return groupResolver.resolve(type);
+        } catch (Exception | LinkageError e) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isConfigurationCandidate(Class<?> type) {
+        if (type.isInterface() || type.isAnnotation()) {
+            return false;
+        }
+        try {
+            AnnotationMetadata metadata = AnnotationMetadata.introspect(type);
+            return metadata.isAnnotated(Configuration.class.getName())
+                || metadata.isAnnotated(Import.class.getName())
+                || metadata.hasAnnotatedMethods(Bean.class.getName());
+        } catch (Exception | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static Class<?> loadClass(String className, ClassLoader classLoader) {
+        if (className == null) {
+            return null;
+        }
+        try {
+            return ClassUtils.forName(className, classLoader);
+        } catch (Exception | LinkageError e) {
+            return null;
+        }
+    }
+}
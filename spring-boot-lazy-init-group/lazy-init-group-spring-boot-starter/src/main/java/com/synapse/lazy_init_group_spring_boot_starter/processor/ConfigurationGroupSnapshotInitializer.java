@@ -0,0 +1,72 @@
+package com.synapse.lazy_init_group_spring_boot_starter.processor;
+
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupMatcher;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupSelector;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.util.Set;
+
+// ConfigurationClassPostProcessor보다 먼저 실행되어야 하므로 자동 구성 대신 초기화기로 등록.
+// 설정 클래스 처리 전의 빈 정의 이름을 기록해 두면, 처리 후 새로 생긴 빈 정의 중 등록기가 만든 것을 등록기를 다시 실행하지 않고 찾을 수 있음
+public class ConfigurationGroupSnapshotInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    public static final String SNAPSHOT_BEAN_NAME = "lazyInitGroupConfigurationSnapshot";
+
+    @Override
+    public void initialize(ConfigurableApplicationContext applicationContext) {
+        if (!isGroupSelectionConfigured(applicationContext.getEnvironment())) {
+            return;
+        }
+        BeanNamesSnapshot snapshot = new BeanNamesSnapshot();
+        applicationContext.getBeanFactory().registerSingleton(SNAPSHOT_BEAN_NAME, snapshot);
+        // 컨텍스트에 직접 추가한 후처리기는 빈으로 등록된 ConfigurationClassPostProcessor보다 먼저 실행됨
+        applicationContext.addBeanFactoryPostProcessor(new SnapshotPostProcessor(snapshot));
+    }
+
+    // 그룹을 지연/제거/백그라운드/자식 컨텍스트로 처리하는 설정이 하나도 없으면 설정 클래스 그룹을 쓸 곳이 없으므로 기록하지 않음
+    private static boolean isGroupSelectionConfigured(Environment environment) {
+        LazyInitGroupSelector selector = LazyInitGroupSelector.from(environment);
+        return !selector.getLazyGroups().isEmpty() || !selector.getExcludeGroups().isEmpty()
+            || !selector.getBackgroundGroups().isEmpty()
+            || !LazyInitGroupMatcher.bind(environment, "lazy-init.child-context.groups").isEmpty()
+            || environment.getProperty("lazy-init.default-lazy.enabled", Boolean.class, false);
+    }
+
+    // 초기화기 없이 만든 컨텍스트(자식 컨텍스트 등)나 그룹 설정이 없는 컨텍스트에서는 null
+    public static Set<String> getBeanNamesBeforeConfiguration(BeanDefinitionRegistry registry) {
+        if (registry instanceof ConfigurableListableBeanFactory beanFactory
+            && beanFactory.getSingleton(SNAPSHOT_BEAN_NAME) instanceof BeanNamesSnapshot snapshot) {
+            return snapshot.beanNames;
+        }
+        return null;
+    }
+
+    private static final class BeanNamesSnapshot {
+
+        private volatile Set<String> beanNames;
+    }
+
+    private static final class SnapshotPostProcessor implements BeanDefinitionRegistryPostProcessor {
+
+        private final BeanNamesSnapshot snapshot;
+
+        private SnapshotPostProcessor(BeanNamesSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) throws BeansException {
+            snapshot.beanNames = Set.of(registry.getBeanDefinitionNames());
+        }
+
+        @Override
+        public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        }
+    }
+}
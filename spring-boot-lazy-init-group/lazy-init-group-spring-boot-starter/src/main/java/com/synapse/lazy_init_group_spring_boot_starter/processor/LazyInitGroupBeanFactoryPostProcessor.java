@@ -1,125 +1,427 @@
 package com.synapse.lazy_init_group_spring_boot_starter.processor;
 
-import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupMatcher;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupRegistry;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupResolver;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupSelector;
+import com.synapse.lazy_init_group_spring_boot_starter.proxy.LazyInitGroupProxyUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.annotation.MergedAnnotations.SearchStrategy;
 import org.springframework.core.env.Environment;
-import org.springframework.util.ClassUtils;
-import org.springframework.util.CollectionUtils;
-import org.springframework.util.StringUtils;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.util.ReflectionUtils;
 
-import java.util.Arrays;
-import java.util.Collections;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public class LazyInitGroupBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
     
     private static final Logger logger = LoggerFactory.getLogger(LazyInitGroupBeanFactoryPostProcessor.class);
     
+    // 빈이 생성되어야 스케줄/구독이 시작되는 애노테이션. 메시징 모듈은 선택 의존성이므로 이름으로 찾음
+    private static final Set<String> TRIGGER_ANNOTATION_NAMES = Set.of(
+        "org.springframework.scheduling.annotation.Scheduled",
+        "org.springframework.scheduling.annotation.Schedules",
+        "org.springframework.kafka.annotation.KafkaListener",
+        "org.springframework.kafka.annotation.KafkaListeners",
+        "org.springframework.jms.annotation.JmsListener",
+        "org.springframework.jms.annotation.JmsListeners",
+        "org.springframework.amqp.rabbit.annotation.RabbitListener",
+        "org.springframework.amqp.rabbit.annotation.RabbitListeners");
+
+    private final LazyInitGroupResolver groupResolver;
+    
     private final Environment environment;
     
-    public LazyInitGroupBeanFactoryPostProcessor(Environment environment) {
+    private final LazyInitGroupRegistry groupRegistry;
+    
+    private final LazyInitGroupSelector groupSelector;
+    
+    private final BeanDefinitionClassifier classifier;
+    
+    public LazyInitGroupBeanFactoryPostProcessor(Environment environment, LazyInitGroupRegistry groupRegistry,
+                                                 LazyInitGroupSelector groupSelector, BeanDefinitionClassifier classifier,
+                                                 LazyInitGroupResolver groupResolver) {
         this.environment = environment;
+        this.groupRegistry = groupRegistry;
+        this.groupSelector = groupSelector;
+        this.classifier = classifier;
+        this.groupResolver = groupResolver;
     }
 
     @Override
     public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
         logger.debug("LazyInitGroupBeanFactoryPostProcessor.postProcessBeanFactory 시작");
         
-        List<String> groups = getGroups();
+        if (isDefaultLazyEnabled()) {
+            applyDefaultLazy(beanFactory);
+            return;
+        }
+        
+        LazyInitGroupMatcher groups = groupSelector.getLazyGroups();
+        LazyInitGroupMatcher backgroundGroups = groupSelector.getBackgroundGroups();
         
         logger.debug("groups: {}", groups);
         
-        if (CollectionUtils.isEmpty(groups)) {
+        if (groups.isEmpty() && backgroundGroups.isEmpty()) {
             return;
         }
         
         logger.debug("지연 초기화할 그룹 목록: {}", groups);
         
-        String[] beanNames = beanFactory.getBeanDefinitionNames();
+        Map<String, String> groupNames = classifier.classify(
+            beanFactory.getBeanDefinitionNames(), beanFactory::getBeanDefinition, groupResolver::resolve);
         int processedCount = 0;
+        Map<String, String> lazyBeans = new LinkedHashMap<>();
+        Map<String, String> backgroundBeans = new LinkedHashMap<>();
         
-        for (String beanName : beanNames) {
+        for (Map.Entry<String, String> entry : groupNames.entrySet()) {
+            String beanName = entry.getKey();
+            String groupName = entry.getValue();
             try {
-                BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
-                
-                Optional<String> groupName = extractLazyInitGroupName(beanDefinition);
-                
-                if (groupName.isPresent() && groups.contains(groupName.get())) {
+                // 백그라운드 그룹은 지연 그룹 패턴에도 해당하더라도 시작 시 병렬로 생성
+                if (backgroundGroups.matches(groupName) && applyBackgroundInit(beanName, groupName, beanFactory.getBeanDefinition(beanName))) {
+                    backgroundBeans.put(beanName, groupName);
+                    continue;
+                }
+                if (groups.matches(groupName)) {
+                    BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
                     beanDefinition.setLazyInit(true);
                     processedCount++;
                     
                     logger.debug("빈 '{}' (그룹: '{}')의 지연 초기화가 설정되었습니다.", 
-                               beanName, groupName.get());
+                               beanName, groupName);
+                    lazyBeans.put(beanName, groupName);
+                    warnIfCreatedByFirstEvent(beanName, groupName, beanDefinition);
                 }
             } catch (Exception e) {
                 logger.debug("빈 '{}' 처리 중 오류 발생: {}", beanName, e.getMessage());
             }
         }
         
+        registerGroups(beanFactory, lazyBeans);
+        registerBackgroundGroups(beanFactory, backgroundBeans);
+        
         logger.debug("LazyInitGroupBeanFactoryPostProcessor.postProcessBeanFactory 완료: 총 {} 개의 빈에 지연 초기화를 설정했습니다.", processedCount);
     }
     
-    private Optional<String> extractLazyInitGroupName(BeanDefinition beanDefinition) {
-        try {
-            Class<?> beanClass = getBeanClass(beanDefinition);
-            if (beanClass != null) {
-                LazyInitGroup annotation = beanClass.getAnnotation(LazyInitGroup.class);
-                if (annotation != null) {
-                    return Optional.of(annotation.value());
+    // 스프링 6.2 백그라운드 부트스트랩: 리프레시 중 부트스트랩 실행기에서 생성되고, 먼저 도착한 소비자는 생성 완료까지 대기
+    private boolean applyBackgroundInit(String beanName, String groupName, BeanDefinition beanDefinition) {
+        if (!(beanDefinition instanceof AbstractBeanDefinition abstractDefinition) || !beanDefinition.isSingleton()) {
+            logger.debug("빈 '{}' (그룹: '{}')은 싱글톤 빈 정의가 아니어서 백그라운드 초기화를 적용할 수 없습니다.", beanName, groupName);
+            return false;
+        }
+        abstractDefinition.setLazyInit(false);
+        abstractDefinition.setBackgroundInit(true);
+        logger.debug("빈 '{}' (그룹: '{}')의 백그라운드 초기화가 설정되었습니다.", beanName, groupName);
+        return true;
+    }
+    
+    private void registerBackgroundGroups(ConfigurableListableBeanFactory beanFactory, Map<String, String> backgroundBeans) {
+        if (backgroundBeans.isEmpty()) {
+            return;
+        }
+        backgroundBeans.forEach((beanName, groupName) -> groupRegistry.register(groupName, beanName));
+        
+        // 부트스트랩 실행기가 없으면 스프링은 백그라운드 초기화 플래그를 무시하고 메인 스레드에서 생성함
+        if (!beanFactory.containsBean(ConfigurableApplicationContext.BOOTSTRAP_EXECUTOR_BEAN_NAME)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("lazy-init-bootstrap-");
+            executor.setDaemon(true);
+            executor.setConcurrencyLimit(environment.getProperty(
+                "lazy-init.background.concurrency", Integer.class, Runtime.getRuntime().availableProcessors()));
+            beanFactory.registerSingleton(ConfigurableApplicationContext.BOOTSTRAP_EXECUTOR_BEAN_NAME, executor);
+        }
+        logger.debug("백그라운드 초기화 그룹 빈 {} 개를 등록했습니다.", backgroundBeans.size());
+    }
+    
+    private void registerGroups(ConfigurableListableBeanFactory beanFactory, Map<String, String> lazyBeans) {
+        boolean reactiveDeferral = isReactiveDeferralEnabled();
+        // 요청 경로의 getBean은 실패 가드를 거치지 않으므로, 실패 가드를 쓰면 프록시가 첫 호출 시 가드를 거쳐 타겟을 생성하도록 함
+        boolean groupProxy = reactiveDeferral || isFailureGuardEnabled();
+        Set<String> factoryBeanNames = groupProxy ? collectFactoryBeanNames(beanFactory) : Set.of();
+        lazyBeans.forEach((beanName, groupName) -> {
+            String groupBeanName = groupProxy
+                ? registerGroupProxy(beanFactory, beanName, groupName, factoryBeanNames) : beanName;
+            groupRegistry.register(groupName, groupBeanName);
+        });
+    }
+    
+    // 기본 지연 모드: 스프링 인프라/프레임워크 빈과 즉시 초기화 그룹을 제외한 모든 싱글톤 빈을 지연 초기화
+    private void applyDefaultLazy(ConfigurableListableBeanFactory beanFactory) {
+        logger.debug("기본 지연 모드 시작, 즉시 초기화 그룹: {}", groupSelector.getEagerGroups());
+        
+        String[] beanNames = beanFactory.getBeanDefinitionNames();
+        Map<String, String> groupNames = classifier.classify(
+            beanNames, beanFactory::getBeanDefinition, groupResolver::resolve);
+        Map<String, String> lazyBeans = new LinkedHashMap<>();
+        Map<String, String> backgroundBeans = new LinkedHashMap<>();
+        Map<EagerReason, List<String>> eagerBeans = new EnumMap<>(EagerReason.class);
+        List<LazyInitializationExcludeFilter> excludeFilters = getLazyInitializationExcludeFilters(beanFactory);
+        int lazyCount = 0;
+        
+        for (String beanName : beanNames) {
+            try {
+                BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+                if (!beanDefinition.isSingleton() || beanDefinition.isAbstract()) {
+                    continue;
                 }
+                
+                Optional<String> groupName = Optional.ofNullable(groupNames.get(beanName));
+                EagerReason eagerReason = determineEagerReason(beanFactory, beanName, beanDefinition, groupName, excludeFilters);
+                if (eagerReason == EagerReason.BACKGROUND_GROUP
+                        && !applyBackgroundInit(beanName, groupName.get(), beanDefinition)) {
+                    eagerReason = EagerReason.EAGER_GROUP;
+                }
+                if (eagerReason != null) {
+                    eagerBeans.computeIfAbsent(eagerReason, key -> new ArrayList<>()).add(beanName);
+                    if (eagerReason == EagerReason.BACKGROUND_GROUP) {
+                        backgroundBeans.put(beanName, groupName.get());
+                    }
+                    continue;
+                }
+                
+                beanDefinition.setLazyInit(true);
+                lazyCount++;
+                if (groupName.isPresent()) {
+                    lazyBeans.put(beanName, groupName.get());
+                    warnIfCreatedByFirstEvent(beanName, groupName.get(), beanDefinition);
+                }
+            } catch (Exception e) {
+                logger.debug("빈 '{}' 처리 중 오류 발생: {}", beanName, e.getMessage());
             }
-        } catch (Exception e) {
-            logger.debug("@LazyInitGroup 그룹명 추출 중 오류: {}", e.getMessage());
         }
-        return Optional.empty();
+        
+        registerGroups(beanFactory, lazyBeans);
+        registerBackgroundGroups(beanFactory, backgroundBeans);
+        logDefaultLazyReport(lazyCount, eagerBeans);
     }
-
-    private Class<?> getBeanClass(BeanDefinition beanDefinition) {
-        try {
-            Class<?> resolvedClass = beanDefinition.getResolvableType().resolve();
-            
-            // CGLIB 프록시가 적용된 경우 원본 클래스를 안전하게 조회
-            if (resolvedClass != null && resolvedClass != Object.class) {
-                Class<?> userClass = ClassUtils.getUserClass(resolvedClass);
-                logger.debug("ResolvableType으로 클래스 타입 조회 성공: {} (원본: {})", 
-                           resolvedClass.getName(), userClass.getName());
-                return userClass;
+    
+    private EagerReason determineEagerReason(ConfigurableListableBeanFactory beanFactory, String beanName,
+                                             BeanDefinition beanDefinition, Optional<String> groupName,
+                                             List<LazyInitializationExcludeFilter> excludeFilters) {
+        if (beanFactory.containsSingleton(beanName)) {
+            return EagerReason.ALREADY_CREATED;
+        }
+        if (beanDefinition.getRole() != BeanDefinition.ROLE_APPLICATION) {
+            return EagerReason.INFRASTRUCTURE;
+        }
+        if (groupName.isPresent() && groupSelector.isBackground(groupName.get())) {
+            return EagerReason.BACKGROUND_GROUP;
+        }
+        if (groupName.isPresent() && groupSelector.isEager(groupName.get())) {
+            return EagerReason.EAGER_GROUP;
+        }
+        if (beanDefinition instanceof AbstractBeanDefinition abstractDefinition
+                && Boolean.FALSE.equals(abstractDefinition.getLazyInit())) {
+            return EagerReason.EXPLICITLY_EAGER;
+        }
+        
+        Class<?> beanClass = LazyInitGroupResolver.getBeanClass(beanDefinition);
+        Class<?> declaringClass = beanClass;
+        if (beanDefinition.getFactoryBeanName() != null && beanFactory.containsBeanDefinition(beanDefinition.getFactoryBeanName())) {
+            declaringClass = LazyInitGroupResolver.getBeanClass(beanFactory.getBeanDefinition(beanDefinition.getFactoryBeanName()));
+        }
+        if (isFrameworkClass(beanClass) || isFrameworkClass(declaringClass)) {
+            return EagerReason.FRAMEWORK;
+        }
+        if (beanClass != null) {
+            if (BeanPostProcessor.class.isAssignableFrom(beanClass) || BeanFactoryPostProcessor.class.isAssignableFrom(beanClass)) {
+                return EagerReason.POST_PROCESSOR;
             }
-            
-            // 일반적인 빈
-            String beanClassName = beanDefinition.getBeanClassName();
-            if (beanClassName != null) {
-                Class<?> beanClass = Class.forName(beanClassName);
-                logger.debug("getBeanClassName()으로 클래스 타입 조회 성공: {}", beanClass.getName());
-                return beanClass;
+            if (SmartLifecycle.class.isAssignableFrom(beanClass)) {
+                return EagerReason.LIFECYCLE;
             }
-            
-            if (beanDefinition.getFactoryBeanName() != null) {
-                logger.debug("팩토리 빈 '{}' 감지, 클래스 타입을 직접 확인할 수 없습니다. 팩토리 메서드: {}", 
-                           beanDefinition.getFactoryBeanName(), beanDefinition.getFactoryMethodName());
+            if (SmartInitializingSingleton.class.isAssignableFrom(beanClass)) {
+                return EagerReason.SMART_INITIALIZING_SINGLETON;
+            }
+            // 그룹 빈의 @Scheduled는 LazyInitGroupScheduledTaskDeferrer가 첫 실행 시점에 생성하므로 그룹이 없는 빈만 해당
+            if (groupName.isEmpty() && isExcludedFromLazyInit(beanName, beanDefinition, beanClass, excludeFilters)) {
+                return EagerReason.LAZY_INIT_EXCLUDED;
             }
-            
-        } catch (ClassNotFoundException e) {
-            logger.debug("클래스를 찾을 수 없습니다: {} - {}", beanDefinition.getBeanClassName(), e.getMessage());
-        } catch (Exception e) {
-            logger.debug("빈 클래스 타입 확인 중 오류: {} - ResolvableType: {}, BeanClassName: {}", 
-                       e.getMessage(), beanDefinition.getResolvableType(), beanDefinition.getBeanClassName());
         }
-        
         return null;
     }
     
-    private List<String> getGroups() {
-        String groupsStr = environment.getProperty("lazy-init.groups");
-        if (StringUtils.hasText(groupsStr)) {
-            return Arrays.asList(groupsStr.split(","));
+    // 스프링 부트의 spring.main.lazy-initialization과 같은 기준: 등록된 LazyInitializationExcludeFilter 빈과,
+    // 스케줄링 자동 구성이 없어도 동작하도록 @Scheduled 및 메시지 리스너 메서드를 가진 빈
+    private List<LazyInitializationExcludeFilter> getLazyInitializationExcludeFilters(ConfigurableListableBeanFactory beanFactory) {
+        List<LazyInitializationExcludeFilter> filters = new ArrayList<>(
+            beanFactory.getBeansOfType(LazyInitializationExcludeFilter.class, false, false).values());
+        filters.add((beanName, beanDefinition, beanType) -> hasTriggerAnnotation(beanType));
+        return filters;
+    }
+    
+    private boolean isExcludedFromLazyInit(String beanName, BeanDefinition beanDefinition, Class<?> beanClass,
+                                           List<LazyInitializationExcludeFilter> excludeFilters) {
+        for (LazyInitializationExcludeFilter filter : excludeFilters) {
+            try {
+                if (filter.isExcluded(beanName, beanDefinition, beanClass)) {
+                    return true;
+                }
+            } catch (RuntimeException | LinkageError e) {
+                logger.debug("빈 '{}'에 LazyInitializationExcludeFilter 적용 중 오류: {}", beanName, e.getMessage());
+            }
+        }
+        return false;
+    }
+    
+    private static boolean hasTriggerAnnotation(Class<?> beanType) {
+        if (TRIGGER_ANNOTATION_NAMES.stream().noneMatch(name -> AnnotationUtils.isCandidateClass(beanType, name))) {
+            return false;
+        }
+        if (hasAnyAnnotation(MergedAnnotations.from(beanType, SearchStrategy.TYPE_HIERARCHY))) {
+            return true;
+        }
+        return !MethodIntrospector.selectMethods(beanType, (ReflectionUtils.MethodFilter) method ->
+            hasAnyAnnotation(MergedAnnotations.from(method, SearchStrategy.TYPE_HIERARCHY))).isEmpty();
+    }
+    
+    private static boolean hasAnyAnnotation(MergedAnnotations annotations) {
+        return TRIGGER_ANNOTATION_NAMES.stream().anyMatch(annotations::isPresent);
+    }
+    
+    // 스프링 자체 클래스와 자동 구성 클래스(중첩 구성 클래스 포함)가 등록한 빈
+    private boolean isFrameworkClass(Class<?> type) {
+        if (type != null && type.getName().startsWith("org.springframework.")) {
+            return true;
+        }
+        for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+            if (AnnotatedElementUtils.hasAnnotation(current, AutoConfiguration.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void logDefaultLazyReport(int lazyCount, Map<EagerReason, List<String>> eagerBeans) {
+        int eagerCount = eagerBeans.values().stream().mapToInt(List::size).sum();
+        logger.info("[LAZY-INIT] 기본 지연 모드: {} 개의 빈을 지연 초기화, {} 개의 빈은 즉시 초기화 유지", lazyCount, eagerCount);
+        
+        eagerBeans.forEach((reason, beanNames) -> {
+            if (reason.listBeanNames) {
+                logger.info("[LAZY-INIT]   즉시 초기화 유지 ({}): {} 개 {}", reason.description, beanNames.size(), beanNames);
+            } else {
+                logger.info("[LAZY-INIT]   즉시 초기화 유지 ({}): {} 개", reason.description, beanNames.size());
+                logger.debug("[LAZY-INIT]   {}: {}", reason.description, beanNames);
+            }
+        });
+    }
+    
+    // 기본 지연 모드에서 즉시 초기화로 남긴 이유. 애플리케이션 빈에 해당하는 이유만 빈 이름까지 보고
+    private enum EagerReason {
+        EAGER_GROUP("즉시 초기화 그룹", true),
+        BACKGROUND_GROUP("백그라운드 초기화 그룹", true),
+        EXPLICITLY_EAGER("@Lazy(false) 명시", true),
+        LIFECYCLE("SmartLifecycle은 시작 시 생성됨", true),
+        SMART_INITIALIZING_SINGLETON("SmartInitializingSingleton 콜백 필요", true),
+        POST_PROCESSOR("후처리기", true),
+        LAZY_INIT_EXCLUDED("스케줄/메시지 리스너 등 LazyInitializationExcludeFilter 대상", true),
+        ALREADY_CREATED("이미 생성됨", false),
+        INFRASTRUCTURE("스프링 인프라 역할", false),
+        FRAMEWORK("프레임워크/자동 구성 빈", false);
+        
+        private final String description;
+        
+        private final boolean listBeanNames;
+        
+        EagerReason(String description, boolean listBeanNames) {
+            this.description = description;
+            this.listBeanNames = listBeanNames;
+        }
+    }
+    
+    // SmartApplicationListener/GenericApplicationListener는 지원 이벤트를 인스턴스로만 판단할 수 있어
+    // 스프링이 첫 이벤트(컨텍스트 시작 이벤트 포함) 발행 시 빈을 생성하므로 지연 효과가 사라짐
+    private void warnIfCreatedByFirstEvent(String beanName, String groupName, BeanDefinition beanDefinition) {
+        Class<?> beanClass = LazyInitGroupResolver.getBeanClass(beanDefinition);
+        if (beanClass != null && (SmartApplicationListener.class.isAssignableFrom(beanClass)
+                || GenericApplicationListener.class.isAssignableFrom(beanClass))) {
+            logger.warn("빈 '{}' (그룹: '{}')은 {}를 구현하여 첫 이벤트 발행 시점에 생성됩니다. "
+                      + "지연 초기화를 유지하려면 ApplicationListener<특정 이벤트 타입> 또는 @EventListener를 사용하세요.",
+                      beanName, groupName, beanClass.getName());
+        }
+    }
+    
+    // @Bean 팩토리 메서드를 제공하는 빈 (구성 클래스 등)
+    private Set<String> collectFactoryBeanNames(ConfigurableListableBeanFactory beanFactory) {
+        Set<String> factoryBeanNames = new HashSet<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            String factoryBeanName = beanFactory.getBeanDefinition(beanName).getFactoryBeanName();
+            if (factoryBeanName != null) {
+                factoryBeanNames.add(factoryBeanName);
+            }
+        }
+        return factoryBeanNames;
+    }
+    
+    // 프록시를 등록한 경우 실제 빈이 옮겨진 타겟 이름을, 그렇지 않으면 원래 이름을 반환
+    private String registerGroupProxy(ConfigurableListableBeanFactory beanFactory, String beanName, String groupName,
+                                      Set<String> factoryBeanNames) {
+        if (!(beanFactory instanceof BeanDefinitionRegistry registry)) {
+            logger.debug("BeanDefinitionRegistry가 아닌 빈 팩토리에서는 그룹 프록시를 등록할 수 없습니다: {}", beanFactory);
+            return beanName;
         }
-        return Collections.emptyList();
+        
+        BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+        Class<?> beanClass = LazyInitGroupResolver.getBeanClass(beanDefinition);
+        
+        // CGLIB 클래스 프록시를 만들 수 없는 빈은 기존 지연 초기화만 적용
+        if (!beanDefinition.isSingleton() || beanClass == null || Modifier.isFinal(beanClass.getModifiers())) {
+            logger.debug("빈 '{}' (그룹: '{}')은 그룹 프록시를 적용할 수 없어 지연 초기화만 설정합니다.", beanName, groupName);
+            return beanName;
+        }
+        
+        // FactoryBean은 '&이름' 조회가, 구성 클래스는 @Bean 팩토리 메서드 해석이 원래 이름의 빈에 의존하므로 프록시로 감싸지 않음
+        if (FactoryBean.class.isAssignableFrom(beanClass)
+                || AnnotatedElementUtils.hasAnnotation(beanClass, Configuration.class)
+                || factoryBeanNames.contains(beanName)) {
+            logger.debug("빈 '{}' (그룹: '{}')은 FactoryBean 또는 구성 클래스여서 그룹 프록시 없이 지연 초기화만 설정합니다.", beanName, groupName);
+            return beanName;
+        }
+        
+        String targetBeanName = LazyInitGroupProxyUtils.registerProxy(
+            registry, beanName, beanDefinition, beanClass, groupName, isReactiveDeferralEnabled());
+        logger.debug("빈 '{}' (그룹: '{}')에 그룹 프록시를 등록했습니다. 타겟: '{}'", beanName, groupName, targetBeanName);
+        return targetBeanName;
+    }
+    
+    private boolean isDefaultLazyEnabled() {
+        return environment.getProperty("lazy-init.default-lazy.enabled", Boolean.class, false);
+    }
+    
+    private boolean isReactiveDeferralEnabled() {
+        return environment.getProperty("lazy-init.reactive.enabled", Boolean.class, false);
+    }
+    
+    private boolean isFailureGuardEnabled() {
+        return environment.getProperty("lazy-init.failure.enabled", Boolean.class, false);
     }
 }
@@ -0,0 +1,74 @@
+package com.synapse.lazy_init_group_spring_boot_starter.proxy;
+
+import org.springframework.aop.framework.AopInfrastructureBean;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.target.EmptyTargetSource;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+
+public class LazyInitGroupProxyFactoryBean implements FactoryBean<Object>, BeanFactoryAware, AopInfrastructureBean {
+
+    private String targetBeanName;
+
+    private Class<?> targetClass;
+
+    private String groupName;
+
+    private boolean reactiveDeferral;
+
+    private Object proxy;
+
+    public void setTargetBeanName(String targetBeanName) {
+        this.targetBeanName = targetBeanName;
+    }
+
+    public void setTargetClass(Class<?> targetClass) {
+        this.targetClass = targetClass;
+    }
+
+    public void setGroupName(String groupName) {
+        this.groupName = groupName;
+    }
+
+    public void setReactiveDeferral(boolean reactiveDeferral) {
+        this.reactiveDeferral = reactiveDeferral;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        if (!(beanFactory instanceof ConfigurableBeanFactory configurableBeanFactory)) {
+            throw new IllegalStateException("ConfigurableBeanFactory가 아닌 환경에서는 그룹 프록시를 생성할 수 없습니다: " + beanFactory);
+        }
+
+        ProxyFactory proxyFactory = new ProxyFactory();
+        proxyFactory.setTargetSource(EmptyTargetSource.forClass(targetClass));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new LazyInitGroupTargetInterceptor(
+            configurableBeanFactory, targetBeanName, groupName, reactiveDeferral));
+        // 프록시 자체는 자동 프록시 대상에서 제외하고, 타겟 빈에만 AOP가 적용되도록 함
+        proxyFactory.addInterface(AopInfrastructureBean.class);
+
+        this.proxy = proxyFactory.getProxy(configurableBeanFactory.getBeanClassLoader());
+    }
+
+    @Override
+    public Object getObject() {
+        if (proxy == null) {
+            throw new IllegalStateException("그룹 프록시가 아직 초기화되지 않았습니다: " + targetBeanName);
+        }
+        return proxy;
+    }
+
+    @Override
+    public Class<?> getObjectType() {
+        return proxy != null ? proxy.getClass() : targetClass;
+    }
+
+    @Override
+    public boolean isSingleton() {
+        return true;
+    }
+}
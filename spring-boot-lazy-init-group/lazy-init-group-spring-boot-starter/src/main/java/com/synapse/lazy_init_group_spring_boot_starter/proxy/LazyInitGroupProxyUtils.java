@@ -0,0 +1,58 @@
+package com.synapse.lazy_init_group_spring_boot_starter.proxy;
+
+import org.springframework.aop.scope.ScopedProxyUtils;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+public final class LazyInitGroupProxyUtils {
+
+    private LazyInitGroupProxyUtils() {
+    }
+
+    // ScopedProxyUtils와 동일한 방식으로 원본 빈 정의를 타겟 이름으로 옮기고,
+    // 원래 이름에는 첫 호출 시점에 타겟을 생성하는 프록시 팩토리 빈을 등록
+    public static String registerProxy(BeanDefinitionRegistry registry, String beanName, BeanDefinition targetDefinition,
+                                       Class<?> targetClass, String groupName, boolean reactiveDeferral) {
+        String targetBeanName = getTargetBeanName(beanName);
+
+        RootBeanDefinition proxyDefinition = new RootBeanDefinition(LazyInitGroupProxyFactoryBean.class);
+        proxyDefinition.setDecoratedDefinition(new BeanDefinitionHolder(targetDefinition, targetBeanName));
+        proxyDefinition.setOriginatingBeanDefinition(targetDefinition);
+        proxyDefinition.setSource(targetDefinition.getSource());
+        proxyDefinition.setRole(targetDefinition.getRole());
+        proxyDefinition.setPrimary(targetDefinition.isPrimary());
+        proxyDefinition.setAutowireCandidate(targetDefinition.isAutowireCandidate());
+        proxyDefinition.setAttribute(FactoryBean.OBJECT_TYPE_ATTRIBUTE, targetClass);
+        proxyDefinition.getPropertyValues().add("targetBeanName", targetBeanName);
+        proxyDefinition.getPropertyValues().add("targetClass", targetClass);
+        proxyDefinition.getPropertyValues().add("groupName", groupName);
+        proxyDefinition.getPropertyValues().add("reactiveDeferral", reactiveDeferral);
+        if (targetDefinition instanceof AbstractBeanDefinition abstractDefinition) {
+            proxyDefinition.copyQualifiersFrom(abstractDefinition);
+        }
+
+        // 타겟은 타입 기반 주입 후보에서 제외하여 프록시만 주입되도록 함
+        targetDefinition.setLazyInit(true);
+        targetDefinition.setAutowireCandidate(false);
+        targetDefinition.setPrimary(false);
+
+        registry.removeBeanDefinition(beanName);
+        registry.registerBeanDefinition(targetBeanName, targetDefinition);
+        registry.registerBeanDefinition(beanName, proxyDefinition);
+        return targetBeanName;
+    }
+
+    // 스코프 프록시와 같은 타겟 이름 규칙을 사용하여 EventListenerMethodProcessor 등 스프링 인프라가
+    // 타겟이 아닌 프록시만 리스너로 등록하도록 함 (동일 이벤트가 두 번 전달되는 것을 방지)
+    public static String getTargetBeanName(String beanName) {
+        return ScopedProxyUtils.getTargetBeanName(beanName);
+    }
+
+    public static boolean isTargetBeanName(String beanName) {
+        return ScopedProxyUtils.isScopedTarget(beanName);
+    }
+}
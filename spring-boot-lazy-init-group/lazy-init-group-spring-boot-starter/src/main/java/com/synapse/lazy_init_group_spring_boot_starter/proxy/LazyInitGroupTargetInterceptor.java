@@ -0,0 +1,78 @@
+package com.synapse.lazy_init_group_spring_boot_starter.proxy;
+
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupFailureGuard;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+
+public class LazyInitGroupTargetInterceptor implements MethodInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyInitGroupTargetInterceptor.class);
+
+    private static final boolean reactorPresent =
+        ClassUtils.isPresent("reactor.core.publisher.Mono", LazyInitGroupTargetInterceptor.class.getClassLoader());
+
+    private final ConfigurableBeanFactory beanFactory;
+
+    private final String targetBeanName;
+
+    private final String groupName;
+
+    private final boolean reactiveDeferral;
+
+    private volatile LazyInitGroupFailureGuard failureGuard;
+
+    private volatile boolean failureGuardResolved;
+
+    public LazyInitGroupTargetInterceptor(ConfigurableBeanFactory beanFactory, String targetBeanName,
+                                          String groupName, boolean reactiveDeferral) {
+        this.beanFactory = beanFactory;
+        this.targetBeanName = targetBeanName;
+        this.groupName = groupName;
+        this.reactiveDeferral = reactiveDeferral && reactorPresent;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+
+        // 아직 생성되지 않은 타겟의 Mono/Flux 메서드는 이벤트 루프를 막지 않도록 생성을 구독 시점으로 미룸
+        if (reactiveDeferral && !isInitialized() && ReactiveLazyInitSupport.isReactiveType(method.getReturnType())) {
+            logger.debug("그룹 '{}'의 빈 '{}' 생성을 boundedElastic 스케줄러로 위임합니다. 메서드: {}",
+                       groupName, targetBeanName, method.getName());
+            return ReactiveLazyInitSupport.deferTarget(this::getTarget, method, invocation.getArguments());
+        }
+
+        return AopUtils.invokeJoinpointUsingReflection(getTarget(), method, invocation.getArguments());
+    }
+
+    public boolean isInitialized() {
+        return beanFactory.containsSingleton(targetBeanName);
+    }
+
+    // 아직 생성되지 않은 타겟만 실패 가드를 거쳐 생성 (생성 후 호출 경로에는 비용을 더하지 않음)
+    public Object getTarget() {
+        if (isInitialized()) {
+            return beanFactory.getBean(targetBeanName);
+        }
+        LazyInitGroupFailureGuard guard = getFailureGuard();
+        if (guard == null) {
+            return beanFactory.getBean(targetBeanName);
+        }
+        return guard.execute(groupName, () -> beanFactory.getBean(targetBeanName));
+    }
+
+    private LazyInitGroupFailureGuard getFailureGuard() {
+        if (!failureGuardResolved) {
+            failureGuard = beanFactory.getBeanProvider(LazyInitGroupFailureGuard.class).getIfAvailable();
+            failureGuardResolved = true;
+        }
+        return failureGuard;
+    }
+}
@@ -0,0 +1,45 @@
+package com.synapse.lazy_init_group_spring_boot_starter.proxy;
+
+import org.springframework.aop.support.AopUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+// Reactor가 클래스패스에 없는 환경에서도 로딩되지 않도록 Reactor 의존 코드를 분리
+final class ReactiveLazyInitSupport {
+
+    private ReactiveLazyInitSupport() {
+    }
+
+    // Mono/Flux의 하위 타입은 flatMap 결과로 대체할 수 없으므로 정확히 일치하는 경우만 처리
+    static boolean isReactiveType(Class<?> returnType) {
+        return returnType == Mono.class || returnType == Flux.class;
+    }
+
+    // 구독 시점의 호출자 스케줄러는 알 수 없어 되돌아가지 않음. 타겟이 생성되기 전의 첫 호출만 메서드 호출과 이후 신호가
+    // boundedElastic 스레드에서 전달되고, 생성 후 호출은 프록시가 타겟을 바로 호출하므로 호출자 스레드에서 전달됨
+    static Object deferTarget(Supplier<Object> targetSupplier, Method method, Object[] args) {
+        Mono<Object> target = Mono.fromSupplier(targetSupplier)
+            .subscribeOn(Schedulers.boundedElastic());
+
+        if (method.getReturnType() == Mono.class) {
+            return target.flatMap(bean -> {
+                try {
+                    return (Mono<?>) AopUtils.invokeJoinpointUsingReflection(bean, method, args);
+                } catch (Throwable ex) {
+                    return Mono.error(ex);
+                }
+            });
+        }
+        return target.flatMapMany(bean -> {
+            try {
+                return (Flux<?>) AopUtils.invokeJoinpointUsingReflection(bean, method, args);
+            } catch (Throwable ex) {
+                return Flux.error(ex);
+            }
+        });
+    }
+}
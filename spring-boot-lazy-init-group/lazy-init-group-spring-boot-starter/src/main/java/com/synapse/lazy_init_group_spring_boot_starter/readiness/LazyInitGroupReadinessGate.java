@@ -0,0 +1,142 @@
+package com.synapse.lazy_init_group_spring_boot_starter.readiness;
+
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupInitializer;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupRegistry;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// 준비 상태 필수 그룹이 백그라운드에서 모두 초기화될 때까지 ReadinessState를 REFUSING_TRAFFIC으로 유지.
+// 스프링 부트의 ApplicationAvailability를 대신하여 조회 시점에 상태를 보정하므로, 부트가 ACCEPTING_TRAFFIC을 발행해도
+// 프로브/헬스 그룹에는 워밍업이 끝나기 전까지 노출되지 않음. LivenessState는 변경하지 않으므로 워밍업 중에도 파드가 재시작되지 않음
+public class LazyInitGroupReadinessGate extends ApplicationAvailabilityBean implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyInitGroupReadinessGate.class);
+
+    private final LazyInitGroupRegistry registry;
+
+    private final LazyInitGroupInitializer initializer;
+
+    private final List<String> criticalGroups;
+
+    private final int maxAttempts;
+
+    private final Duration retryDelay;
+
+    private final boolean failOpen;
+
+    private volatile boolean warmedUp;
+
+    private volatile boolean failedOpen;
+
+    private volatile boolean closed;
+
+    public LazyInitGroupReadinessGate(LazyInitGroupRegistry registry, LazyInitGroupInitializer initializer,
+                                      List<String> criticalGroups) {
+        this(registry, initializer, criticalGroups, 1, Duration.ZERO, false);
+    }
+
+    public LazyInitGroupReadinessGate(LazyInitGroupRegistry registry, LazyInitGroupInitializer initializer,
+                                      List<String> criticalGroups, int maxAttempts, Duration retryDelay, boolean failOpen) {
+        this.registry = registry;
+        this.initializer = initializer;
+        this.criticalGroups = List.copyOf(criticalGroups);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelay = retryDelay;
+        this.failOpen = failOpen;
+    }
+
+    // 컨텍스트 리프레시가 끝난 직후, 스프링 부트가 ACCEPTING_TRAFFIC을 발행하기 전에 워밍업 시작
+    @EventListener
+    public void onApplicationStarted(ApplicationStartedEvent event) {
+        criticalGroups.stream()
+            .filter(groupName -> !registry.containsGroup(groupName))
+            .forEach(groupName -> logger.warn("준비 상태 필수 그룹 '{}'에 지연 초기화된 빈이 없습니다.", groupName));
+
+        warmUp(1, System.nanoTime());
+    }
+
+    private void warmUp(int attempt, long startTime) {
+        if (closed) {
+            return;
+        }
+        CompletableFuture.allOf(criticalGroups.stream()
+                                    .map(initializer::initializeAsync)
+                                    .toArray(CompletableFuture[]::new))
+            .whenComplete((result, ex) -> {
+                if (ex == null) {
+                    logger.info("[LAZY-INIT] 준비 상태 필수 그룹 {} 워밍업 완료: {} ms",
+                               criticalGroups, (System.nanoTime() - startTime) / 1_000_000);
+                    warmedUp = true;
+                    return;
+                }
+
+                // 실패 가드가 대기 중이라 생성을 시도하지도 않은 경우는 시도 횟수에 넣지 않고 대기가 끝난 뒤 다시 시도
+                LazyInitGroupUnavailableException unavailable = findUnavailable(ex);
+                if (unavailable != null) {
+                    Duration delay = unavailable.getRetryAfter().compareTo(retryDelay) > 0 ? unavailable.getRetryAfter() : retryDelay;
+                    logger.debug("준비 상태 필수 그룹 '{}' 대기 중, {} ms 후 다시 시도합니다.", unavailable.getGroupName(), delay.toMillis());
+                    retry(attempt, startTime, delay);
+                } else if (attempt < maxAttempts) {
+                    logger.warn("[LAZY-INIT] 준비 상태 필수 그룹 워밍업 실패 ({}/{}), {} ms 후 다시 시도합니다: {}",
+                              attempt, maxAttempts, retryDelay.toMillis(), ex.getMessage());
+                    retry(attempt + 1, startTime, retryDelay);
+                } else if (failOpen) {
+                    logger.error("[LAZY-INIT] 준비 상태 필수 그룹 워밍업이 {} 번 모두 실패했지만 fail-open 설정에 따라 트래픽 수신을 허용합니다: {}",
+                               maxAttempts, ex.getMessage());
+                    failedOpen = true;
+                    warmedUp = true;
+                } else {
+                    logger.error("[LAZY-INIT] 준비 상태 필수 그룹 워밍업이 {} 번 모두 실패하여 트래픽 수신을 계속 거부합니다: {}",
+                               maxAttempts, ex.getMessage());
+                }
+            });
+    }
+
+    private void retry(int attempt, long startTime, Duration delay) {
+        CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS)
+            .execute(() -> warmUp(attempt, startTime));
+    }
+
+    private static LazyInitGroupUnavailableException findUnavailable(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof LazyInitGroupUnavailableException unavailable) {
+                return unavailable;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public <S extends AvailabilityState> S getState(Class<S> stateType) {
+        if (stateType == ReadinessState.class && !warmedUp) {
+            return stateType.cast(ReadinessState.REFUSING_TRAFFIC);
+        }
+        return super.getState(stateType);
+    }
+
+    public boolean isWarmedUp() {
+        return warmedUp;
+    }
+
+    public boolean isFailedOpen() {
+        return failedOpen;
+    }
+
+    // 컨텍스트가 닫힌 뒤에는 예약된 재시도를 실행하지 않음
+    @Override
+    public void destroy() {
+        closed = true;
+    }
+}
@@ -0,0 +1,220 @@
+package com.synapse.lazy_init_group_spring_boot_starter.scheduling;
+
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.Schedules;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.config.TaskManagementConfigUtils;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// ScheduledAnnotationBeanPostProcessor는 빈이 생성될 때만 @Scheduled를 등록하므로, 지연 그룹의 빈은 생성 전까지 스케줄이 동작하지 않음.
+// 생성되지 않은 빈의 @Scheduled 메타데이터로 첫 실행 시점만 예약해 두고, 그 시점에 빈을 생성하여 이후 스케줄은 스프링에 위임
+public class LazyInitGroupScheduledTaskDeferrer implements SmartInitializingSingleton, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyInitGroupScheduledTaskDeferrer.class);
+
+    private final ConfigurableListableBeanFactory beanFactory;
+
+    private final LazyInitGroupRegistry registry;
+
+    private final ObjectProvider<TaskScheduler> taskSchedulerProvider;
+
+    private final List<ScheduledFuture<?>> deferredTasks = new CopyOnWriteArrayList<>();
+
+    private ScheduledExecutorService localExecutor;
+
+    public LazyInitGroupScheduledTaskDeferrer(ConfigurableListableBeanFactory beanFactory, LazyInitGroupRegistry registry,
+                                              ObjectProvider<TaskScheduler> taskSchedulerProvider) {
+        this.beanFactory = beanFactory;
+        this.registry = registry;
+        this.taskSchedulerProvider = taskSchedulerProvider;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // @EnableScheduling이 없으면 생성된 빈에도 스케줄이 등록되지 않으므로 미리 예약할 필요가 없음
+        if (!beanFactory.containsBean(TaskManagementConfigUtils.SCHEDULED_ANNOTATION_PROCESSOR_BEAN_NAME)) {
+            return;
+        }
+
+        for (String groupName : registry.getGroupNames()) {
+            for (String beanName : registry.getBeanNames(groupName)) {
+                if (beanFactory.containsSingleton(beanName)) {
+                    continue;
+                }
+
+                Class<?> beanType = beanFactory.getType(beanName, false);
+                if (beanType == null) {
+                    continue;
+                }
+
+                Map<Method, Set<Scheduled>> scheduledMethods = findScheduledMethods(ClassUtils.getUserClass(beanType));
+                if (!scheduledMethods.isEmpty()) {
+                    deferFirstExecution(groupName, beanName, scheduledMethods);
+                }
+            }
+        }
+    }
+
+    private void deferFirstExecution(String groupName, String beanName, Map<Method, Set<Scheduled>> scheduledMethods) {
+        Instant now = Instant.now();
+        Instant firstExecution = null;
+
+        for (Set<Scheduled> annotations : scheduledMethods.values()) {
+            for (Scheduled scheduled : annotations) {
+                Instant execution = getFirstExecution(scheduled, now);
+                if (execution != null && (firstExecution == null || execution.isBefore(firstExecution))) {
+                    firstExecution = execution;
+                }
+            }
+        }
+
+        if (firstExecution == null) {
+            return;
+        }
+
+        Instant fireTime = firstExecution;
+        List<Method> dueMethods = findDueMethods(scheduledMethods, now, fireTime);
+        ScheduledFuture<?> future = getTaskScheduler().schedule(
+            () -> initializeOnFirstExecution(groupName, beanName, dueMethods), fireTime);
+        deferredTasks.add(future);
+
+        logger.debug("그룹 '{}'의 빈 '{}'은 첫 스케줄 실행 시점({})까지 생성을 미룹니다. @Scheduled 메서드: {} 개",
+                   groupName, beanName, fireTime, scheduledMethods.size());
+    }
+
+    // 빈 생성 시 스프링이 등록하는 스케줄은 cron이면 다음 주기부터, fixedDelay/fixedRate면 initialDelay를 생성 시점부터 다시 세어
+    // 첫 실행이 미뤄지므로 (약 2 x initialDelay), 예약 시점에 실행되어야 했던 메서드는 직접 한 번 실행.
+    // initialDelay가 없는 fixedDelay/fixedRate는 스프링이 등록 즉시 실행하고, 일회성 작업은 스프링이 생성 시점부터 다시 예약하여
+    // 직접 실행하면 두 번 실행되므로 제외 (일회성 작업의 첫 실행은 생성 시점 + initialDelay)
+    private List<Method> findDueMethods(Map<Method, Set<Scheduled>> scheduledMethods, Instant now, Instant fireTime) {
+        List<Method> dueMethods = new ArrayList<>();
+        scheduledMethods.forEach((method, annotations) -> {
+            boolean dueNow = annotations.stream().anyMatch(scheduled ->
+                fireTime.equals(getFirstExecution(scheduled, now))
+                    && (StringUtils.hasText(scheduled.cron())
+                        || (isRepeating(scheduled) && !getInitialDelay(scheduled).isZero())));
+            if (dueNow) {
+                dueMethods.add(method);
+            }
+        });
+        return dueMethods;
+    }
+
+    private void initializeOnFirstExecution(String groupName, String beanName, List<Method> dueMethods) {
+        // 그 사이 다른 경로로 생성되었다면 이미 스프링이 스케줄을 등록했으므로 할 일이 없음
+        if (beanFactory.containsSingleton(beanName)) {
+            return;
+        }
+
+        logger.info("[LAZY-INIT] LazyInitGroup '{}'의 빈 '{}'을 첫 스케줄 실행 시점에 초기화합니다.", groupName, beanName);
+        Object bean = beanFactory.getBean(beanName);
+
+        for (Method method : dueMethods) {
+            Method invocableMethod = AopUtils.selectInvocableMethod(method, bean.getClass());
+            ReflectionUtils.makeAccessible(invocableMethod);
+            ReflectionUtils.invokeMethod(invocableMethod, bean);
+        }
+    }
+
+    private Instant getFirstExecution(Scheduled scheduled, Instant now) {
+        String cron = resolve(scheduled.cron());
+        if (StringUtils.hasText(cron)) {
+            if (Scheduled.CRON_DISABLED.equals(cron)) {
+                return null;
+            }
+            String zone = resolve(scheduled.zone());
+            ZoneId zoneId = StringUtils.hasText(zone) ? ZoneId.of(zone) : ZoneId.systemDefault();
+            ZonedDateTime next = CronExpression.parse(cron).next(now.atZone(zoneId));
+            return next != null ? next.toInstant() : null;
+        }
+
+        // fixedDelay/fixedRate/일회성 작업은 모두 initialDelay 이후 첫 실행
+        return now.plus(getInitialDelay(scheduled));
+    }
+
+    private boolean isRepeating(Scheduled scheduled) {
+        return scheduled.fixedDelay() >= 0 || StringUtils.hasText(scheduled.fixedDelayString())
+            || scheduled.fixedRate() >= 0 || StringUtils.hasText(scheduled.fixedRateString());
+    }
+
+    private Duration getInitialDelay(Scheduled scheduled) {
+        return toDuration(scheduled.initialDelay(), scheduled.initialDelayString(), scheduled.timeUnit());
+    }
+
+    private Duration toDuration(long value, String valueString, TimeUnit timeUnit) {
+        String resolved = resolve(valueString);
+        if (StringUtils.hasText(resolved)) {
+            if (resolved.startsWith("P") || resolved.startsWith("p")) {
+                return Duration.parse(resolved);
+            }
+            return Duration.of(Long.parseLong(resolved), timeUnit.toChronoUnit());
+        }
+        return value > 0 ? Duration.of(value, timeUnit.toChronoUnit()) : Duration.ZERO;
+    }
+
+    private String resolve(String value) {
+        return StringUtils.hasText(value) ? beanFactory.resolveEmbeddedValue(value) : value;
+    }
+
+    private Map<Method, Set<Scheduled>> findScheduledMethods(Class<?> beanClass) {
+        return MethodIntrospector.selectMethods(beanClass, (MethodIntrospector.MetadataLookup<Set<Scheduled>>) method -> {
+            Set<Scheduled> annotations = AnnotatedElementUtils.getMergedRepeatableAnnotations(method, Scheduled.class, Schedules.class);
+            return !annotations.isEmpty() ? annotations : null;
+        });
+    }
+
+    private TaskScheduler getTaskScheduler() {
+        TaskScheduler taskScheduler = taskSchedulerProvider.getIfUnique();
+        if (taskScheduler != null) {
+            return taskScheduler;
+        }
+
+        synchronized (this) {
+            if (localExecutor == null) {
+                CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("lazy-init-scheduling-");
+                threadFactory.setDaemon(true);
+                localExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+            }
+            return new ConcurrentTaskScheduler(localExecutor);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        deferredTasks.forEach(future -> future.cancel(false));
+        deferredTasks.clear();
+        if (localExecutor != null) {
+            localExecutor.shutdownNow();
+        }
+    }
+}
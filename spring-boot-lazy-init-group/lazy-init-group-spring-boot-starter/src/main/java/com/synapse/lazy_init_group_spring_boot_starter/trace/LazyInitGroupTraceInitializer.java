@@ -0,0 +1,84 @@
+package com.synapse.lazy_init_group_spring_boot_starter.trace;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+// 리프레시 이전에 컨텍스트의 ApplicationStartup을 기록기로 교체해야 하므로 자동 구성 대신 초기화기로 등록.
+// 준비 완료 시점에 시작 구간을, 컨텍스트 종료 시점에 이후 지연 초기화까지 포함한 전체 구간을 파일로 기록
+public class LazyInitGroupTraceInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyInitGroupTraceInitializer.class);
+
+    public static final String RECORDER_BEAN_NAME = "lazyInitGroupTraceRecorder";
+
+    @Override
+    public void initialize(ConfigurableApplicationContext applicationContext) {
+        ConfigurableEnvironment environment = applicationContext.getEnvironment();
+        if (!environment.getProperty("lazy-init.trace.enabled", Boolean.class, false)) {
+            return;
+        }
+
+        Path file = Path.of(environment.getProperty("lazy-init.trace.file", "lazy-init-trace.json"));
+        int maxEvents = environment.getProperty("lazy-init.trace.max-events", Integer.class, 100_000);
+
+        LazyInitGroupTraceRecorder recorder = new LazyInitGroupTraceRecorder(applicationContext.getApplicationStartup(), maxEvents);
+        recorder.setBeanFactory(applicationContext.getBeanFactory());
+        applicationContext.setApplicationStartup(recorder);
+        applicationContext.getBeanFactory().registerSingleton(RECORDER_BEAN_NAME, recorder);
+        applicationContext.addApplicationListener(new TraceExportListener(applicationContext, recorder, file));
+
+        logger.debug("시작 추적 기록 활성화: {}", file.toAbsolutePath());
+    }
+
+    private static final class TraceExportListener implements SmartApplicationListener {
+
+        private final ConfigurableApplicationContext applicationContext;
+
+        private final LazyInitGroupTraceRecorder recorder;
+
+        private final Path file;
+
+        private TraceExportListener(ConfigurableApplicationContext applicationContext,
+                                    LazyInitGroupTraceRecorder recorder, Path file) {
+            this.applicationContext = applicationContext;
+            this.recorder = recorder;
+            this.file = file;
+        }
+
+        @Override
+        public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
+            return ApplicationReadyEvent.class.isAssignableFrom(eventType)
+                || ContextClosedEvent.class.isAssignableFrom(eventType);
+        }
+
+        @Override
+        public void onApplicationEvent(ApplicationEvent event) {
+            if (event instanceof ApplicationReadyEvent readyEvent && readyEvent.getApplicationContext() == applicationContext) {
+                recorder.markStartupCompleted();
+                write("시작");
+            } else if (event instanceof ContextClosedEvent closedEvent && closedEvent.getApplicationContext() == applicationContext) {
+                write("종료");
+            }
+        }
+
+        private void write(String phase) {
+            try {
+                recorder.writeTo(file);
+                logger.info("[LAZY-INIT] 추적 파일 기록 ({}): {} (구간 {} 개, 버림 {} 개)",
+                          phase, file.toAbsolutePath(), recorder.getSpans().size(), recorder.getDroppedCount());
+            } catch (IOException e) {
+                logger.warn("[LAZY-INIT] 추적 파일 기록 실패: {} - {}", file.toAbsolutePath(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.synapse.lazy_init_group_spring_boot_starter.trace;
+
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupRegistry;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupResolver;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 스프링의 ApplicationStartup 단계(리프레시 단계, 후처리기 실행, 빈 생성)를 스레드별로 기록하여
+// Chrome trace-event JSON으로 내보냄. 부모/자식 구간이 중첩되어 보이도록 모든 구간을 실제 스레드 트랙에 두고,
+// 그룹 빈 생성은 구간 인자(group)로 표시하여 Perfetto에서 인자로 검색/필터할 수 있도록 함
+public class LazyInitGroupTraceRecorder implements ApplicationStartup {
+
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+
+    private static final int APPLICATION_PID = 1;
+
+    private final ApplicationStartup delegate;
+
+    private final int maxEvents;
+
+    private final long originNanos = System.nanoTime();
+
+    private final AtomicLong idGenerator = new AtomicLong();
+
+    private final Queue<TraceSpan> spans = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger spanCount = new AtomicInteger();
+
+    private final ThreadLocal<RecordingStep> currentStep = new ThreadLocal<>();
+
+    private volatile ConfigurableListableBeanFactory beanFactory;
+
+    private volatile long startupCompletedNanos = Long.MAX_VALUE;
+
+    public LazyInitGroupTraceRecorder(ApplicationStartup delegate, int maxEvents) {
+        this.delegate = delegate;
+        this.maxEvents = maxEvents;
+    }
+
+    // 그룹명/지연 여부를 기록 시점이 아닌 내보내기 시점에 조회하기 위한 빈 팩토리
+    public void setBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public StartupStep start(String name) {
+        RecordingStep parent = currentStep.get();
+        RecordingStep step = new RecordingStep(delegate.start(name), name, idGenerator.incrementAndGet(),
+                                               parent != null ? parent.getId() : null, parent);
+        currentStep.set(step);
+        return step;
+    }
+
+    public void markStartupCompleted() {
+        startupCompletedNanos = System.nanoTime();
+    }
+
+    public List<TraceSpan> getSpans() {
+        return List.copyOf(spans);
+    }
+
+    public int getDroppedCount() {
+        return Math.max(0, spanCount.get() - maxEvents);
+    }
+
+    public void writeTo(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            writeTo(writer);
+        }
+    }
+
+    public void writeTo(Writer writer) throws IOException {
+        LazyInitGroupRegistry registry = resolveRegistry();
+        Map<Long, String> threadNames = new LinkedHashMap<>();
+        List<String> events = new ArrayList<>();
+
+        for (TraceSpan span : getSpans()) {
+            String beanName = BEAN_INSTANTIATE_STEP.equals(span.name()) ? span.tags().get("beanName") : null;
+            String groupName = beanName != null ? resolveGroupName(registry, beanName) : null;
+            threadNames.putIfAbsent(span.threadId(), span.threadName());
+
+            Map<String, String> args = new LinkedHashMap<>(span.tags());
+            args.put("thread", span.threadName());
+            args.put("phase", span.startNanos() < startupCompletedNanos ? "startup" : "after-startup");
+            if (groupName != null) {
+                args.put("group", groupName);
+            }
+            if (beanName != null) {
+                args.put("lazy", String.valueOf(isLazy(beanName)));
+            }
+
+            events.add("{\"name\":" + quote(eventName(span, beanName)) + ",\"cat\":" + quote(span.name())
+                + ",\"ph\":\"X\",\"ts\":" + toMicros(span.startNanos())
+                + ",\"dur\":" + Math.max(1, (span.endNanos() - span.startNanos()) / 1_000)
+                + ",\"pid\":" + APPLICATION_PID + ",\"tid\":" + span.threadId() + ",\"args\":" + toJson(args) + "}");
+        }
+
+        List<String> metadata = new ArrayList<>();
+        metadata.add(processName(APPLICATION_PID, "application"));
+        threadNames.forEach((threadId, threadName) ->
+            metadata.add("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":" + APPLICATION_PID + ",\"tid\":" + threadId
+                + ",\"args\":{\"name\":" + quote(threadName) + "}}"));
+
+        writer.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[\n");
+        List<String> all = new ArrayList<>(metadata);
+        all.addAll(events);
+        writer.write(String.join(",\n", all));
+        writer.write("\n]}\n");
+    }
+
+    private LazyInitGroupRegistry resolveRegistry() {
+        ConfigurableListableBeanFactory factory = this.beanFactory;
+        try {
+            return factory != null ? factory.getBeanProvider(LazyInitGroupRegistry.class).getIfAvailable() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // 지연 그룹은 레지스트리에서, 지연 대상이 아니어서 즉시 생성된 그룹 빈은 후처리기와 공유하는 조회기로 클래스(패키지/메타 애노테이션 포함)의 @LazyInitGroup에서 조회
+    private String resolveGroupName(LazyInitGroupRegistry registry, String beanName) {
+        String groupName = registry != null ? registry.getGroupName(beanName) : null;
+        if (groupName != null) {
+            return groupName;
+        }
+        ConfigurableListableBeanFactory factory = this.beanFactory;
+        try {
+            LazyInitGroupResolver groupResolver = factory != null ? factory.getBeanProvider(LazyInitGroupResolver.class).getIfAvailable() : null;
+            Class<?> beanType = groupResolver != null ? factory.getType(beanName, false) : null;
+            return beanType != null ? groupResolver.resolve(beanType).orElse(null) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private boolean isLazy(String beanName) {
+        ConfigurableListableBeanFactory factory = this.beanFactory;
+        try {
+            return factory != null && factory.containsBeanDefinition(beanName)
+                && factory.getBeanDefinition(beanName).isLazyInit();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static String eventName(TraceSpan span, String beanName) {
+        if (beanName != null) {
+            return beanName;
+        }
+        String postProcessor = span.tags().get("postProcessor");
+        if (postProcessor != null) {
+            // 태그 값은 "class com.example.Foo" 형태의 toString일 수 있음
+            return span.name() + " " + ClassUtils.getShortName(postProcessor.replaceFirst("^class ", "").trim());
+        }
+        return span.name();
+    }
+
+    private long toMicros(long nanos) {
+        return (nanos - originNanos) / 1_000;
+    }
+
+    private static String processName(int pid, String name) {
+        return "{\"name\":\"process_name\",\"ph\":\"M\",\"pid\":" + pid + ",\"args\":{\"name\":" + quote(name) + "}}";
+    }
+
+    private static String toJson(Map<String, String> values) {
+        List<String> entries = new ArrayList<>();
+        values.forEach((key, value) -> entries.add(quote(key) + ":" + quote(value)));
+        return "{" + String.join(",", entries) + "}";
+    }
+
+    private static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    public record TraceSpan(String name, long id, Long parentId, Map<String, String> tags,
+                            long threadId, String threadName, long startNanos, long endNanos) {
+    }
+
+    private record TraceTag(String key, String value) implements StartupStep.Tag {
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+    }
+
+    private final class RecordingStep implements StartupStep {
+
+        private final StartupStep delegateStep;
+
+        private final String name;
+
+        private final long id;
+
+        private final Long parentId;
+
+        private final RecordingStep parent;
+
+        private final Map<String, String> tags = Collections.synchronizedMap(new LinkedHashMap<>());
+
+        private final Thread thread = Thread.currentThread();
+
+        private final long startNanos = System.nanoTime();
+
+        private RecordingStep(StartupStep delegateStep, String name, long id, Long parentId, RecordingStep parent) {
+            this.delegateStep = delegateStep;
+            this.name = name;
+            this.id = id;
+            this.parentId = parentId;
+            this.parent = parent;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getParentId() {
+            return parentId;
+        }
+
+        @Override
+        public StartupStep tag(String key, String value) {
+            tags.put(key, value);
+            delegateStep.tag(key, value);
+            return this;
+        }
+
+        @Override
+        public StartupStep tag(String key, Supplier<String> value) {
+            return tag(key, value.get());
+        }
+
+        @Override
+        public Tags getTags() {
+            List<Tag> snapshot = new ArrayList<>();
+            synchronized (tags) {
+                tags.forEach((key, value) -> snapshot.add(new TraceTag(key, value)));
+            }
+            return snapshot::iterator;
+        }
+
+        @Override
+        public void end() {
+            long endNanos = System.nanoTime();
+            delegateStep.end();
+            if (currentStep.get() == this) {
+                currentStep.set(parent);
+            }
+            // 시작 이후 오래 실행되는 애플리케이션에서 무한히 쌓이지 않도록 상한 이후는 버림
+            if (spanCount.incrementAndGet() <= maxEvents) {
+                Map<String, String> snapshot;
+                synchronized (tags) {
+                    snapshot = Collections.unmodifiableMap(new LinkedHashMap<>(tags));
+                }
+                spans.add(new TraceSpan(name, id, parentId, snapshot, thread.threadId(), thread.getName(),
+                                        startNanos, endNanos));
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.synapse.lazy_init_group_spring_boot_starter.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+public class LazyInitGroupPrefetchFilter extends OncePerRequestFilter implements Ordered {
+
+    private final LazyInitGroupPrefetcher prefetcher;
+
+    public LazyInitGroupPrefetchFilter(LazyInitGroupPrefetcher prefetcher) {
+        this.prefetcher = prefetcher;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        prefetcher.prefetch(PathContainer.parsePath(path));
+        filterChain.doFilter(request, response);
+    }
+
+    // 나머지 필터 체인과 핸들러 처리 시간 동안 그룹 초기화가 진행되도록 가장 먼저 실행
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
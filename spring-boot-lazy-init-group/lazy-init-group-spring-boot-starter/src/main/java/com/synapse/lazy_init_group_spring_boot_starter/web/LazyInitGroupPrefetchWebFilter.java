@@ -0,0 +1,28 @@
+package com.synapse.lazy_init_group_spring_boot_starter.web;
+
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+public class LazyInitGroupPrefetchWebFilter implements WebFilter, Ordered {
+
+    private final LazyInitGroupPrefetcher prefetcher;
+
+    public LazyInitGroupPrefetchWebFilter(LazyInitGroupPrefetcher prefetcher) {
+        this.prefetcher = prefetcher;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        prefetcher.prefetch(exchange.getRequest().getPath().pathWithinApplication());
+        return chain.filter(exchange);
+    }
+
+    // LazyInitGroupPrefetchFilter와 동일하게 최우선 순위로 실행
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,64 @@
+package com.synapse.lazy_init_group_spring_boot_starter.web;
+
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupInitializer;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class LazyInitGroupPrefetcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyInitGroupPrefetcher.class);
+
+    private final LazyInitGroupRouteMatcher routeMatcher;
+
+    private final LazyInitGroupInitializer initializer;
+
+    public LazyInitGroupPrefetcher(Environment environment, LazyInitGroupInitializer initializer) {
+        this(new LazyInitGroupRouteMatcher(getRoutes(environment)), initializer);
+    }
+
+    public LazyInitGroupPrefetcher(LazyInitGroupRouteMatcher routeMatcher, LazyInitGroupInitializer initializer) {
+        this.routeMatcher = routeMatcher;
+        this.initializer = initializer;
+    }
+
+    // 요청 처리와 빈 생성이 겹치도록 매칭된 그룹의 초기화를 비동기로 시작만 하고 바로 반환
+    public void prefetch(PathContainer path) {
+        if (routeMatcher.isEmpty()) {
+            return;
+        }
+
+        for (String groupName : routeMatcher.match(path)) {
+            LazyInitGroupStatus status = initializer.getStatus(groupName);
+            if (status == LazyInitGroupStatus.INITIALIZED || status == LazyInitGroupStatus.INITIALIZING) {
+                continue;
+            }
+
+            logger.debug("요청 경로 '{}'에 매핑된 그룹 '{}'의 사전 초기화를 시작합니다. (현재 상태: {})",
+                       path.value(), groupName, status);
+            initializer.initializeAsync(groupName);
+        }
+    }
+
+    // 그룹명에 '.'이 포함될 수 있으므로 값은 문자열로 바인딩한 뒤 직접 콤마로 분리
+    private static Map<String, List<String>> getRoutes(Environment environment) {
+        Map<String, String> routes = Binder.get(environment)
+            .bind("lazy-init.prefetch.routes", Bindable.mapOf(String.class, String.class))
+            .orElse(Map.of());
+
+        Map<String, List<String>> patternsByGroup = new LinkedHashMap<>();
+        routes.forEach((groupName, patterns) ->
+            patternsByGroup.put(groupName, Arrays.asList(StringUtils.commaDelimitedListToStringArray(patterns))));
+        return patternsByGroup;
+    }
+}
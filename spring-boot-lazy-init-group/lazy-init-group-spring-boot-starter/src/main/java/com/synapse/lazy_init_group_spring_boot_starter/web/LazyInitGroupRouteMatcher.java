@@ -0,0 +1,48 @@
+package com.synapse.lazy_init_group_spring_boot_starter.web;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 서블릿/리액티브 양쪽에서 공유하는 URL 패턴 -> 그룹 매핑 (패턴은 생성 시 한 번만 파싱)
+public class LazyInitGroupRouteMatcher {
+
+    private final List<Route> routes;
+
+    public LazyInitGroupRouteMatcher(Map<String, List<String>> patternsByGroup) {
+        List<Route> parsedRoutes = new ArrayList<>();
+        patternsByGroup.forEach((groupName, patterns) -> {
+            for (String pattern : patterns) {
+                if (!StringUtils.hasText(pattern)) {
+                    continue;
+                }
+                parsedRoutes.add(new Route(PathPatternParser.defaultInstance.parse(pattern.trim()), groupName));
+            }
+        });
+        this.routes = List.copyOf(parsedRoutes);
+    }
+
+    public Set<String> match(PathContainer path) {
+        Set<String> groupNames = new LinkedHashSet<>();
+        for (Route route : routes) {
+            if (route.pattern().matches(path)) {
+                groupNames.add(route.groupName());
+            }
+        }
+        return groupNames;
+    }
+
+    public boolean isEmpty() {
+        return routes.isEmpty();
+    }
+
+    private record Route(PathPattern pattern, String groupName) {
+    }
+}
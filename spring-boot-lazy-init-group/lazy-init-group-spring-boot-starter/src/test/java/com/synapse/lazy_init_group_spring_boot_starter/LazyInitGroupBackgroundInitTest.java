@@ -0,0 +1,132 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.background.LazyInitGroupBackgroundInitReport;
+import com.synapse.lazy_init_group_spring_boot_starter.background.LazyInitGroupBackgroundInitReporter;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+    classes = LazyInitGroupBackgroundInitTest.BackgroundInitTestConfig.class,
+    properties = "lazy-init.background-groups=warmup")
+@DisplayName("백그라운드 초기화 그룹 테스트")
+class LazyInitGroupBackgroundInitTest {
+
+    private static final long CREATION_MILLIS = 300;
+
+    @Configuration
+    @EnableAutoConfiguration
+    @Import({WarmupCacheService.class, SlowEagerService.class, WarmupConsumer.class})
+    static class BackgroundInitTestConfig {
+    }
+
+    @LazyInitGroup("warmup")
+    static class WarmupCacheService {
+
+        static final AtomicReference<Thread> constructorThread = new AtomicReference<>();
+
+        public WarmupCacheService() throws InterruptedException {
+            constructorThread.set(Thread.currentThread());
+            Thread.sleep(CREATION_MILLIS);
+        }
+    }
+
+    static class SlowEagerService {
+
+        static final AtomicReference<Thread> constructorThread = new AtomicReference<>();
+
+        public SlowEagerService() throws InterruptedException {
+            constructorThread.set(Thread.currentThread());
+            Thread.sleep(CREATION_MILLIS);
+        }
+    }
+
+    // 백그라운드 빈을 주입받는 일반 빈 - 생성이 끝나지 않았으면 스프링이 완료까지 기다려 같은 인스턴스를 주입
+    static class WarmupConsumer {
+
+        final WarmupCacheService warmupCacheService;
+
+        public WarmupConsumer(WarmupCacheService warmupCacheService) {
+            this.warmupCacheService = warmupCacheService;
+        }
+    }
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Autowired
+    private LazyInitGroupRegistry registry;
+
+    @Autowired
+    private LazyInitGroupBackgroundInitReporter reporter;
+
+    @Test
+    @DisplayName("백그라운드 그룹 빈은 리프레시 스레드가 아닌 부트스트랩 스레드에서 생성되는지 확인")
+    void testBackgroundBeanCreatedOffRefreshThread() {
+        String beanName = WarmupCacheService.class.getName();
+
+        assertTrue(registry.getBeanNames("warmup").contains(beanName));
+        AbstractBeanDefinition beanDefinition =
+            (AbstractBeanDefinition) applicationContext.getBeanFactory().getBeanDefinition(beanName);
+        assertTrue(beanDefinition.isBackgroundInit());
+        assertFalse(beanDefinition.isLazyInit(), "백그라운드 그룹 빈은 리프레시 중에 생성되어야 합니다");
+
+        assertTrue(applicationContext.getBeanFactory().containsSingleton(beanName));
+        assertNotSame(SlowEagerService.constructorThread.get(), WarmupCacheService.constructorThread.get());
+        // 부트스트랩 실행기가 없으면 applicationTaskExecutor와 별개의 전용 데몬 스레드 실행기를 등록
+        assertTrue(applicationContext.containsBean(ConfigurableApplicationContext.BOOTSTRAP_EXECUTOR_BEAN_NAME));
+        assertTrue(WarmupCacheService.constructorThread.get().getName().startsWith("lazy-init-bootstrap-"),
+            "부트스트랩 실행기 스레드에서 생성되어야 합니다: " + WarmupCacheService.constructorThread.get().getName());
+    }
+
+    @Test
+    @DisplayName("제거 그룹과 겹치는 백그라운드 그룹 빈은 제거되지 않고 백그라운드에서 생성되는지 확인")
+    void testBackgroundGroupTakesPrecedenceOverExclude() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackgroundInitTestConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties("lazy-init.background-groups=warmup", "lazy-init.exclude-groups=warmup")
+                .run()) {
+            String beanName = WarmupCacheService.class.getName();
+
+            assertTrue(context.containsBeanDefinition(beanName), "백그라운드 그룹 빈은 제거되지 않아야 합니다");
+            assertTrue(((AbstractBeanDefinition) context.getBeanFactory().getBeanDefinition(beanName)).isBackgroundInit());
+            assertTrue(context.getBean(LazyInitGroupRegistry.class).getBeanNames("warmup").contains(beanName));
+        }
+    }
+
+    @Test
+    @DisplayName("먼저 도착한 소비자도 완성된 같은 인스턴스를 주입받는지 확인")
+    void testConsumerReceivesSameInstance() {
+        WarmupConsumer consumer = applicationContext.getBean(WarmupConsumer.class);
+
+        assertSame(applicationContext.getBean(WarmupCacheService.class), consumer.warmupCacheService);
+    }
+
+    @Test
+    @DisplayName("리프레시 완료 시 임계 경로 단축 시간이 보고되는지 확인")
+    void testCriticalPathSavingReported() {
+        LazyInitGroupBackgroundInitReport report = reporter.getReport();
+
+        assertNotNull(report);
+        assertEquals(1, report.beanCount());
+        assertEquals(1, report.beanCountByGroup().get("warmup"));
+        assertTrue(report.backgroundWork().toMillis() >= CREATION_MILLIS);
+        assertTrue(report.criticalPathSaved().toMillis() > 0,
+            "느린 일반 빈과 겹친 만큼 임계 경로가 줄어야 합니다: " + report);
+        assertEquals(report.backgroundWork().minus(report.refreshThreadWait()), report.criticalPathSaved());
+    }
+}
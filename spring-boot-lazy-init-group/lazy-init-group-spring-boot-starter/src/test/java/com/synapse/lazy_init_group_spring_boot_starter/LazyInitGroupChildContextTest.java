@@ -0,0 +1,137 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.context.LazyInitGroupChildContextManager;
+import com.synapse.lazy_init_group_spring_boot_starter.context.LazyInitGroupChildContextProxyFactoryBean;
+import com.synapse.lazy_init_group_spring_boot_starter.context.LazyInitGroupClassLoader;
+import com.synapse.lazy_init_group_spring_boot_starter.service.archive.ArchiveOperations;
+import com.synapse.lazy_init_group_spring_boot_starter.service.archive.ArchiveStore;
+import com.synapse.lazy_init_group_spring_boot_starter.service.archive.internal.ArchiveServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+    classes = LazyInitGroupChildContextTest.ChildContextTestConfig.class,
+    properties = {
+        "lazy-init.child-context.groups=archive",
+        "lazy-init.child-context.isolated-packages=com.synapse.lazy_init_group_spring_boot_starter.service.archive.internal"
+    })
+@DisplayName("자식 컨텍스트 그룹 테스트")
+class LazyInitGroupChildContextTest {
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EnableAsync
+    @Import({ArchiveStore.class, ArchiveServiceImpl.class, ArchiveClient.class, ArchiveNotifier.class})
+    static class ChildContextTestConfig {
+    }
+
+    // 자식 컨텍스트로 옮겨지는 @Async 빈. 부모의 AsyncAnnotationBeanPostProcessor가 자식에도 적용되어야 함
+    @LazyInitGroup("archive")
+    static class ArchiveNotifier {
+
+        @Async
+        public CompletableFuture<String> notifyArchived(String name) {
+            return CompletableFuture.completedFuture(Thread.currentThread().getName());
+        }
+    }
+
+    // 부모 컨텍스트의 빈이 자식 컨텍스트 그룹의 빈을 주입받는 경우
+    static class ArchiveClient {
+
+        private final ArchiveOperations archiveOperations;
+
+        ArchiveClient(ArchiveOperations archiveOperations) {
+            this.archiveOperations = archiveOperations;
+        }
+    }
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Autowired
+    private LazyInitGroupChildContextManager childContextManager;
+
+    @Autowired
+    private ArchiveClient archiveClient;
+
+    @Autowired
+    private ArchiveStore archiveStore;
+
+    @Autowired
+    private ArchiveNotifier archiveNotifier;
+
+    @Test
+    @DisplayName("첫 호출 시 자식 컨텍스트가 리프레시되고, 닫은 뒤 다시 호출하면 새로 리프레시되는지 확인")
+    void testChildContextRefreshedOnDemandAndClosable() {
+        childContextManager.close("archive");
+        int instancesBefore = ArchiveStore.instanceCount.get();
+        assertFalse(childContextManager.isActive("archive"));
+
+        assertEquals("report#1", archiveClient.archiveOperations.archive("report"));
+        assertTrue(childContextManager.isActive("archive"));
+        assertEquals(instancesBefore + 1, ArchiveStore.instanceCount.get());
+        assertEquals(2, archiveStore.save("invoice"), "부모에 주입된 프록시도 같은 자식 컨텍스트의 빈에 위임해야 합니다");
+
+        assertTrue(childContextManager.close("archive"));
+        assertFalse(childContextManager.isActive("archive"));
+
+        assertEquals("memo#1", archiveClient.archiveOperations.archive("memo"), "다시 리프레시된 컨텍스트에서는 새 인스턴스를 사용해야 합니다");
+        assertEquals(instancesBefore + 2, ArchiveStore.instanceCount.get());
+    }
+
+    @Test
+    @DisplayName("그룹 빈 정의는 부모 컨텍스트에서 제거되고 자식 컨텍스트에만 존재하는지 확인")
+    void testBeanDefinitionsMovedToChildContext() {
+        String storeName = ArchiveStore.class.getName();
+        assertEquals(LazyInitGroupChildContextProxyFactoryBean.class.getName(),
+                     applicationContext.getBeanFactory().getBeanDefinition(storeName).getBeanClassName());
+        assertTrue(AopUtils.isAopProxy(archiveStore), "부모 컨텍스트에는 실제 빈이 아닌 프록시만 있어야 합니다");
+
+        archiveClient.archiveOperations.archive("contract");
+        ConfigurableApplicationContext childContext = childContextManager.getContext("archive");
+        assertSame(applicationContext, childContext.getParent());
+        assertTrue(childContext.getBeanFactory().containsSingleton(storeName));
+        assertTrue(childContext.getBeanFactory().containsSingleton(ArchiveServiceImpl.class.getName()));
+    }
+
+    @Test
+    @DisplayName("격리 패키지의 클래스는 그룹 전용 클래스로더에서 로드되는지 확인")
+    void testIsolatedPackageLoadedByDedicatedClassLoader() {
+        ClassLoader first = archiveClient.archiveOperations.implementationClassLoader();
+        assertInstanceOf(LazyInitGroupClassLoader.class, first);
+        assertNotSame(ArchiveServiceImpl.class.getClassLoader(), first);
+        assertSame(ArchiveStore.class.getClassLoader(), archiveStore.getClass().getSuperclass().getClassLoader(),
+                   "격리되지 않은 클래스는 부모 클래스로더를 그대로 사용해야 합니다");
+
+        childContextManager.close("archive");
+        ClassLoader second = archiveClient.archiveOperations.implementationClassLoader();
+        assertNotSame(first, second, "다시 리프레시하면 새 클래스로더를 사용해야 합니다");
+    }
+
+    @Test
+    @DisplayName("부모 컨텍스트의 @Async 후처리기와 자동 프록시 생성기가 자식 컨텍스트 빈에도 적용되는지 확인")
+    void testParentPostProcessorsAppliedToChildBeans() throws Exception {
+        String callerThread = Thread.currentThread().getName();
+        String asyncThread = archiveNotifier.notifyArchived("contract").get(5, TimeUnit.SECONDS);
+        assertNotEquals(callerThread, asyncThread, "@Async 메서드는 호출 스레드가 아닌 실행기에서 실행되어야 합니다");
+
+        ConfigurableApplicationContext childContext = childContextManager.getContext("archive");
+        Object childBean = childContext.getBean(ArchiveNotifier.class.getName());
+        assertTrue(AopUtils.isAopProxy(childBean), "자식 컨텍스트의 빈에도 프록시가 적용되어야 합니다");
+    }
+}
@@ -0,0 +1,143 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupRegistry;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupResolver;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupSelector;
+import com.synapse.lazy_init_group_spring_boot_starter.processor.BeanDefinitionClassifier;
+import com.synapse.lazy_init_group_spring_boot_starter.processor.LazyInitGroupBeanFactoryPostProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 빈 정의 분류 비용은 대부분 클래스 로딩이고 JVM마다 한 번뿐이므로 병렬도마다 새 JVM을 띄워 측정.
+// 클래스패스의 라이브러리 클래스들을 빈 정의로 등록하여 대규모 애플리케이션의 빈 정의 수를 흉내냄.
+// 실행: ./gradlew test -Pbenchmark=true --tests '*ClassificationBenchmarkTest'
+@EnabledIfSystemProperty(named = "lazy-init.benchmark", matches = "true")
+@DisplayName("빈 정의 병렬 분류 벤치마크")
+class LazyInitGroupClassificationBenchmarkTest {
+
+    private static final int BEAN_DEFINITION_COUNT = 10_000;
+
+    private static final int TRIALS = 3;
+
+    private static final String RESULT_PREFIX = "CLASSIFICATION_MILLIS=";
+
+    public static void main(String[] args) throws Exception {
+        int parallelism = Integer.parseInt(args[0]);
+        LoggingSystem.get(LazyInitGroupClassificationBenchmarkTest.class.getClassLoader()).setLogLevel(null, LogLevel.WARN);
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        List<String> classNames = findLibraryClassNames(BEAN_DEFINITION_COUNT);
+        for (int i = 0; i < classNames.size(); i++) {
+            GenericBeanDefinition beanDefinition = new GenericBeanDefinition();
+            beanDefinition.setBeanClassName(classNames.get(i));
+            beanFactory.registerBeanDefinition("bean" + i, beanDefinition);
+        }
+
+        MockEnvironment environment = new MockEnvironment().withProperty("lazy-init.groups", "analytics");
+        LazyInitGroupBeanFactoryPostProcessor postProcessor = new LazyInitGroupBeanFactoryPostProcessor(
+            environment, new LazyInitGroupRegistry(), LazyInitGroupSelector.from(environment),
+            new BeanDefinitionClassifier(parallelism), LazyInitGroupResolver.from(environment));
+
+        long startTime = System.nanoTime();
+        postProcessor.postProcessBeanFactory(beanFactory);
+        long elapsed = System.nanoTime() - startTime;
+
+        System.out.println(RESULT_PREFIX + elapsed / 1_000_000);
+    }
+
+    // 정적 초기화가 무거운 클래스가 섞이도록 스프링/잭슨 라이브러리 jar에서 최상위 클래스 이름을 수집
+    private static List<String> findLibraryClassNames(int limit) throws IOException {
+        List<String> classNames = new ArrayList<>();
+        for (String path : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            if (!path.endsWith(".jar") || !(path.contains("spring") || path.contains("jackson"))) {
+                continue;
+            }
+            try (JarFile jarFile = new JarFile(path)) {
+                for (JarEntry entry : jarFile.stream().toList()) {
+                    String name = entry.getName();
+                    if (name.endsWith(".class") && !name.contains("$") && !name.startsWith("META-INF")
+                        && !name.endsWith("module-info.class") && !name.endsWith("package-info.class")) {
+                        classNames.add(name.substring(0, name.length() - ".class".length()).replace('/', '.'));
+                        if (classNames.size() >= limit) {
+                            return classNames;
+                        }
+                    }
+                }
+            }
+        }
+        return classNames;
+    }
+
+    private static long runTrial(int parallelism) throws Exception {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                                             LazyInitGroupClassificationBenchmarkTest.class.getName(), String.valueOf(parallelism))
+            .redirectErrorStream(true)
+            .start();
+
+        Long result = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    result = Long.parseLong(line.substring(RESULT_PREFIX.length()));
+                }
+            }
+        }
+        assertEquals(0, process.waitFor(), "벤치마크 프로세스가 정상 종료되어야 합니다");
+        assertNotNull(result, "분류 시간이 출력되어야 합니다");
+        return result;
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = values.stream().sorted().toList();
+        return sorted.get(sorted.size() / 2);
+    }
+
+    @Test
+    @DisplayName("코어 수에 따른 빈 정의 분류 시간 비교")
+    void benchmarkClassificationScaling() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        List<Integer> parallelismLevels = new ArrayList<>();
+        for (int parallelism = 1; parallelism < cores; parallelism *= 2) {
+            parallelismLevels.add(parallelism);
+        }
+        parallelismLevels.add(cores);
+        // 단일 코어 환경에서도 병렬 처리 오버헤드를 확인할 수 있도록 최소 한 단계는 과할당으로 측정
+        if (cores == 1) {
+            parallelismLevels.add(2);
+        }
+
+        Map<Integer, List<Long>> results = new LinkedHashMap<>();
+        for (int i = 0; i < TRIALS; i++) {
+            for (int parallelism : parallelismLevels) {
+                results.computeIfAbsent(parallelism, key -> new ArrayList<>()).add(runTrial(parallelism));
+            }
+        }
+
+        long baseline = median(results.get(1));
+        System.out.printf("[BENCHMARK] 빈 정의 %d 개 분류, 가용 코어 %d%n", BEAN_DEFINITION_COUNT, cores);
+        results.forEach((parallelism, millis) -> System.out.printf(
+            "[BENCHMARK] 병렬도 %d: 중앙값 %d ms (x%.2f) %s%n",
+            parallelism, median(millis), (double) baseline / Math.max(1, median(millis)), millis));
+    }
+}
@@ -0,0 +1,201 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupRegistry;
+import com.synapse.lazy_init_group_spring_boot_starter.service.catalog.CatalogConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.type.AnnotationMetadata;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+    classes = LazyInitGroupConfigurationTest.ConfigurationTestConfig.class,
+    properties = "lazy-init.groups=search, indexing")
+@DisplayName("설정 클래스 그룹 전파 테스트")
+class LazyInitGroupConfigurationTest {
+
+    static final AtomicInteger createdClients = new AtomicInteger();
+
+    static final AtomicInteger registrarInvocations = new AtomicInteger();
+
+    @Configuration
+    @EnableAutoConfiguration
+    @Import({SearchConfiguration.class, MonitoringConfiguration.class})
+    static class ConfigurationTestConfig {
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @LazyInitGroup("search")
+    @Import({SearchMetrics.class, SearchPoolRegistrar.class})
+    static class SearchConfiguration {
+
+        @Bean
+        public SearchClient searchClient() {
+            createdClients.incrementAndGet();
+            return new SearchClient();
+        }
+
+        @Bean
+        @LazyInitGroup("indexing")
+        public IndexWriter indexWriter() {
+            return new IndexWriter();
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        static class SearchCacheConfiguration {
+
+            @Bean
+            public SearchCache searchCache() {
+                return new SearchCache();
+            }
+        }
+    }
+
+    // 그룹이 없는 설정 클래스의 빈은 그대로 즉시 초기화
+    @Configuration(proxyBeanMethods = false)
+    @Import(ProbeRegistrar.class)
+    static class MonitoringConfiguration {
+
+        @Bean
+        public HealthProbe healthProbe() {
+            return new HealthProbe();
+        }
+    }
+
+    static class SearchPoolRegistrar implements ImportBeanDefinitionRegistrar {
+
+        @Override
+        public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+            registrarInvocations.incrementAndGet();
+            registry.registerBeanDefinition("searchPool", new RootBeanDefinition(SearchPool.class));
+        }
+    }
+
+    static class ProbeRegistrar implements ImportBeanDefinitionRegistrar {
+
+        @Override
+        public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+            registry.registerBeanDefinition("probeRegistry", new RootBeanDefinition(ProbeRegistry.class));
+        }
+    }
+
+    static class SearchClient {
+    }
+
+    static class IndexWriter {
+    }
+
+    static class SearchCache {
+    }
+
+    static class SearchMetrics {
+    }
+
+    static class SearchPool {
+    }
+
+    static class HealthProbe {
+    }
+
+    static class ProbeRegistry {
+    }
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    private boolean isCreated(String beanName) {
+        return applicationContext.getBeanFactory().containsSingleton(beanName);
+    }
+
+    @Test
+    @DisplayName("설정 클래스의 @Bean, 중첩 설정, @Import 대상과 등록기 빈이 같은 그룹으로 지연 초기화되고 요청 시 생성되는지 확인")
+    void testConfigurationGroupPropagated() {
+        LazyInitGroupRegistry registry = applicationContext.getBean(LazyInitGroupRegistry.class);
+        Set<String> searchBeans = registry.getBeanNames("search");
+
+        assertTrue(searchBeans.contains(SearchConfiguration.class.getName()));
+        assertTrue(searchBeans.contains("searchClient"));
+        assertTrue(searchBeans.contains(SearchConfiguration.SearchCacheConfiguration.class.getName()));
+        assertTrue(searchBeans.contains("searchCache"));
+        assertTrue(searchBeans.contains(SearchMetrics.class.getName()));
+        assertTrue(searchBeans.contains("searchPool"));
+
+        for (String beanName : searchBeans) {
+            assertFalse(isCreated(beanName), "그룹 빈은 시작 시 생성되지 않아야 합니다: " + beanName);
+        }
+        assertEquals(0, createdClients.get());
+
+        // 같은 컨텍스트를 쓰는 다른 테스트의 순서와 무관하도록 생성 확인은 마지막에 수행
+        assertNotNull(applicationContext.getBean(SearchClient.class));
+        assertNotNull(applicationContext.getBean("searchPool"));
+        assertEquals(1, createdClients.get());
+    }
+
+    @Test
+    @DisplayName("등록기가 만든 빈의 그룹을 찾을 때 등록기를 다시 실행하지 않는지 확인")
+    void testRegistrarNotReExecuted() {
+        assertEquals("search", applicationContext.getBean(LazyInitGroupRegistry.class).getGroupName("searchPool"));
+        assertEquals(1, registrarInvocations.get());
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @ComponentScan(basePackageClasses = CatalogConfiguration.class)
+    static class ScanningApplication {
+    }
+
+    @Test
+    @DisplayName("스캔된 그룹 설정 클래스 뒤에 등록되는 애플리케이션 클래스의 등록기 빈은 그룹을 물려받지 않는지 확인")
+    void testApplicationRegistrarBeansStayUngrouped() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ScanningApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("lazy-init.groups=catalog")
+                .run()) {
+            LazyInitGroupRegistry registry = context.getBean(LazyInitGroupRegistry.class);
+            String packagesBeanName = AutoConfigurationPackages.class.getName();
+
+            assertEquals("catalog", registry.getGroupName("catalogClient"));
+            // @EnableAutoConfiguration의 AutoConfigurationPackages.Registrar가 등록한 빈은 그룹 설정 클래스의 빈 바로 뒤에 등록됨
+            assertNull(registry.getGroupName(packagesBeanName));
+            assertFalse(context.getBeanFactory().getBeanDefinition(packagesBeanName).isLazyInit());
+            assertTrue(AutoConfigurationPackages.has(context.getBeanFactory()));
+        }
+    }
+
+    @Test
+    @DisplayName("@Bean 메서드에 선언한 그룹이 설정 클래스 그룹보다 우선하는지 확인")
+    void testMethodGroupOverridesConfigurationGroup() {
+        LazyInitGroupRegistry registry = applicationContext.getBean(LazyInitGroupRegistry.class);
+
+        assertEquals("indexing", registry.getGroupName("indexWriter"));
+        assertFalse(isCreated("indexWriter"));
+    }
+
+    @Test
+    @DisplayName("그룹이 없는 설정 클래스의 빈은 즉시 초기화되는지 확인")
+    void testUngroupedConfigurationStaysEager() {
+        assertNull(applicationContext.getBean(LazyInitGroupRegistry.class).getGroupName("healthProbe"));
+        assertTrue(isCreated("healthProbe"));
+        // 그룹 설정 클래스 바로 뒤에 등록되어도 그룹이 없는 설정 클래스가 가져온 등록기의 빈은 그룹을 물려받지 않음
+        assertNull(applicationContext.getBean(LazyInitGroupRegistry.class).getGroupName("probeRegistry"));
+        assertTrue(isCreated("probeRegistry"));
+    }
+}
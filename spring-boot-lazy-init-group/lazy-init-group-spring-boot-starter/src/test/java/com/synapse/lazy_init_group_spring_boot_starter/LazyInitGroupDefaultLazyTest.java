@@ -0,0 +1,129 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+    classes = LazyInitGroupDefaultLazyTest.DefaultLazyTestConfig.class,
+    properties = {
+        "lazy-init.default-lazy.enabled=true",
+        "lazy-init.default-lazy.eager-groups=startup.*"
+    })
+@ExtendWith(OutputCaptureExtension.class)
+@DisplayName("기본 지연 모드 테스트")
+class LazyInitGroupDefaultLazyTest {
+
+    @Configuration
+    @EnableAutoConfiguration
+    @Import({PlainService.class, ReportingService.class, CacheWarmer.class, AuditTrail.class, StartupVerifier.class,
+             SettlementScheduler.class})
+    static class DefaultLazyTestConfig {
+
+        @Bean
+        public InvoiceFormatter invoiceFormatter() {
+            return new InvoiceFormatter();
+        }
+    }
+
+    static class PlainService {
+    }
+
+    static class InvoiceFormatter {
+    }
+
+    @LazyInitGroup("reporting")
+    static class ReportingService {
+    }
+
+    @LazyInitGroup("startup.cache")
+    static class CacheWarmer {
+    }
+
+    @Lazy(false)
+    static class AuditTrail {
+    }
+
+    static class StartupVerifier implements SmartInitializingSingleton {
+
+        @Override
+        public void afterSingletonsInstantiated() {
+        }
+    }
+
+    // 그룹이 없는 @Scheduled 빈은 지연되면 스케줄이 등록되지 않으므로 즉시 초기화되어야 함
+    static class SettlementScheduler {
+
+        @Scheduled(fixedDelay = 60_000)
+        public void settle() {
+        }
+    }
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Autowired
+    private LazyInitGroupRegistry registry;
+
+    private boolean isCreated(String beanName) {
+        return applicationContext.getBeanFactory().containsSingleton(beanName);
+    }
+
+    @Test
+    @DisplayName("애노테이션이 없는 애플리케이션 빈도 지연 초기화되는지 확인")
+    void testApplicationBeansLazyByDefault() {
+        assertFalse(isCreated(PlainService.class.getName()));
+        assertFalse(isCreated("invoiceFormatter"));
+        assertFalse(isCreated(ReportingService.class.getName()));
+        assertEquals(Set.of(ReportingService.class.getName()), registry.getBeanNames("reporting"),
+                     "그룹 빈은 그룹 단위 초기화를 위해 레지스트리에 등록되어야 합니다");
+    }
+
+    @Test
+    @DisplayName("즉시 초기화 그룹, @Lazy(false), 콜백이 필요한 빈, 스케줄 빈, 프레임워크 빈은 즉시 초기화되는지 확인")
+    void testEagerBeansKept() {
+        assertTrue(isCreated(CacheWarmer.class.getName()));
+        assertTrue(isCreated(AuditTrail.class.getName()));
+        assertTrue(isCreated(StartupVerifier.class.getName()));
+        assertTrue(isCreated(SettlementScheduler.class.getName()), "그룹이 없는 @Scheduled 빈은 지연되지 않아야 합니다");
+        assertTrue(isCreated("lazyInitGroupRegistry"));
+    }
+
+    @Test
+    @DisplayName("즉시 초기화로 남긴 빈과 이유를 보고하는지 확인")
+    void testEagerReportLogged(CapturedOutput output) {
+        // 테스트 컨텍스트는 캐시되어 출력 시점이 달라질 수 있으므로 리포트 확인용 컨텍스트를 별도로 시작
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DefaultLazyTestConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties("lazy-init.default-lazy.enabled=true", "lazy-init.default-lazy.eager-groups=startup.*")
+                .run()) {
+            assertTrue(context.isActive());
+            assertTrue(output.getOut().contains("[LAZY-INIT] 기본 지연 모드:"));
+            assertTrue(output.getOut().contains("즉시 초기화 그룹): 1 개 [" + CacheWarmer.class.getName() + "]"));
+            assertTrue(output.getOut().contains("@Lazy(false) 명시): 1 개 [" + AuditTrail.class.getName() + "]"));
+            assertTrue(output.getOut().contains("SmartInitializingSingleton 콜백 필요): 1 개 [" + StartupVerifier.class.getName() + "]"));
+            assertTrue(output.getOut().contains("LazyInitializationExcludeFilter 대상): 1 개 [" + SettlementScheduler.class.getName() + "]"));
+            assertTrue(output.getOut().contains("프레임워크/자동 구성 빈)"));
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.actuator.LazyInitGroupEndpoint;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupFailureGuard;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupFailureStats;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupInitializer;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupStatus;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+    classes = LazyInitGroupFailureBackoffTest.FailureBackoffTestConfig.class,
+    properties = {
+        "lazy-init.groups=flaky,recovering,resettable,quote",
+        "lazy-init.failure.enabled=true",
+        "lazy-init.failure.initial-backoff=200ms",
+        "lazy-init.failure.max-backoff=1s",
+        "management.endpoints.web.exposure.include=lazyinitgroups"
+    })
+@DisplayName("그룹 초기화 실패 캐시/백오프 테스트")
+class LazyInitGroupFailureBackoffTest {
+
+    @Configuration
+    @EnableAutoConfiguration
+    @Import({FlakyConnectionPool.class, RecoveringCache.class, ResettableClient.class, QuoteClient.class})
+    static class FailureBackoffTestConfig {
+    }
+
+    // 로컬 리소스가 준비되지 않아 항상 생성에 실패하는 빈
+    @LazyInitGroup("flaky")
+    static class FlakyConnectionPool {
+
+        static final AtomicInteger attempts = new AtomicInteger();
+
+        public FlakyConnectionPool() {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("로컬 소켓이 아직 열리지 않았습니다");
+        }
+    }
+
+    // 처음 두 번은 실패하고 세 번째 시도에 성공하는 빈
+    @LazyInitGroup("recovering")
+    static class RecoveringCache {
+
+        static final AtomicInteger attempts = new AtomicInteger();
+
+        public RecoveringCache() {
+            if (attempts.incrementAndGet() <= 2) {
+                throw new IllegalStateException("캐시 파일이 잠겨 있습니다");
+            }
+        }
+    }
+
+    @LazyInitGroup("resettable")
+    static class ResettableClient {
+
+        static final AtomicBoolean available = new AtomicBoolean();
+
+        static final AtomicInteger attempts = new AtomicInteger();
+
+        public ResettableClient() {
+            attempts.incrementAndGet();
+            if (!available.get()) {
+                throw new IllegalStateException("설정 서버에 연결할 수 없습니다");
+            }
+        }
+    }
+
+    // 요청 처리 중 주입된 프록시를 통해 처음 호출되는 빈
+    @LazyInitGroup("quote")
+    static class QuoteClient {
+
+        static final AtomicInteger attempts = new AtomicInteger();
+
+        public QuoteClient() {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("시세 서버 인증서를 읽을 수 없습니다");
+        }
+
+        public String latest(String symbol) {
+            return symbol;
+        }
+    }
+
+    @Autowired
+    private LazyInitGroupInitializer initializer;
+
+    @Autowired
+    private QuoteClient quoteClient;
+
+    @Autowired
+    private LazyInitGroupFailureGuard failureGuard;
+
+    @Autowired
+    private LazyInitGroupEndpoint endpoint;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("백오프 동안에는 빈을 다시 생성하지 않고 캐시된 실패를 원인으로 즉시 실패하는지 확인")
+    void testFastFailDuringBackoff() {
+        BeanCreationException failure = assertThrows(BeanCreationException.class, () -> initializer.initialize("flaky"));
+        assertInstanceOf(IllegalStateException.class, failure.getMostSpecificCause());
+        assertEquals(1, FlakyConnectionPool.attempts.get());
+
+        LazyInitGroupUnavailableException unavailable =
+            assertThrows(LazyInitGroupUnavailableException.class, () -> initializer.initialize("flaky"));
+        assertEquals("flaky", unavailable.getGroupName());
+        assertEquals(1, unavailable.getConsecutiveFailures());
+        assertTrue(unavailable.getRetryAfter().toMillis() > 0);
+        assertSame(failure, unavailable.getCause(), "마지막 실패가 원인으로 전달되어야 합니다");
+
+        assertEquals(1, FlakyConnectionPool.attempts.get(), "대기 중에는 생성자가 다시 호출되지 않아야 합니다");
+
+        assertEquals(LazyInitGroupStatus.FAILED, initializer.getStatus("flaky"));
+        LazyInitGroupFailureStats stats = endpoint.group("flaky").failures();
+        assertTrue(stats.isFailing());
+        assertEquals(1, stats.failures());
+        assertEquals(1, stats.fastFailures());
+        assertNotNull(stats.nextRetryAt());
+
+        assertEquals(1.0, meterRegistry.get("lazy.init.group.failures").tag("group", "flaky").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("lazy.init.group.fast.failures").tag("group", "flaky").functionCounter().count());
+        assertTrue(meterRegistry.get("lazy.init.group.retry.after").tag("group", "flaky").gauge().value() > 0);
+    }
+
+    @Test
+    @DisplayName("요청 경로에서 그룹 프록시를 통해 생성할 때도 실패를 캐시하고 즉시 실패하는지 확인")
+    void testFastFailThroughGroupProxy() {
+        assertTrue(AopUtils.isAopProxy(quoteClient), "실패 가드를 사용하면 그룹 빈이 프록시로 주입되어야 합니다");
+        assertEquals(0, QuoteClient.attempts.get());
+
+        BeanCreationException failure = assertThrows(BeanCreationException.class, () -> quoteClient.latest("LZY"));
+        assertInstanceOf(IllegalStateException.class, failure.getMostSpecificCause());
+
+        LazyInitGroupUnavailableException unavailable =
+            assertThrows(LazyInitGroupUnavailableException.class, () -> quoteClient.latest("LZY"));
+        assertEquals("quote", unavailable.getGroupName());
+        assertSame(failure, unavailable.getCause());
+        assertEquals(1, QuoteClient.attempts.get(), "대기 중에는 요청 경로에서도 생성자가 다시 호출되지 않아야 합니다");
+        assertEquals(1, failureGuard.getStats("quote").fastFailures());
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 재시도하고 실패할 때마다 대기 시간이 두 배로 늘어나는지 확인")
+    void testExponentialBackoffAndRecovery() throws InterruptedException {
+        assertThrows(BeanCreationException.class, () -> initializer.initialize("recovering"));
+        assertThrows(LazyInitGroupUnavailableException.class, () -> initializer.initialize("recovering"));
+
+        Thread.sleep(250);
+        assertThrows(BeanCreationException.class, () -> initializer.initialize("recovering"));
+        assertEquals(2, RecoveringCache.attempts.get());
+
+        // 두 번째 실패 후 대기 시간은 400ms이므로 250ms 뒤에도 아직 즉시 실패
+        Thread.sleep(250);
+        LazyInitGroupUnavailableException unavailable =
+            assertThrows(LazyInitGroupUnavailableException.class, () -> initializer.initialize("recovering"));
+        assertEquals(2, unavailable.getConsecutiveFailures());
+        assertEquals(2, RecoveringCache.attempts.get());
+
+        Thread.sleep(250);
+        initializer.initialize("recovering");
+
+        assertEquals(3, RecoveringCache.attempts.get());
+        assertEquals(LazyInitGroupStatus.INITIALIZED, initializer.getStatus("recovering"));
+        LazyInitGroupFailureStats stats = failureGuard.getStats("recovering");
+        assertFalse(stats.isFailing());
+        assertEquals(2, stats.failures());
+        assertEquals(2, stats.retries());
+        assertEquals(1, stats.recoveries());
+    }
+
+    @Test
+    @DisplayName("엔드포인트로 실패 상태를 초기화하면 대기 없이 바로 재시도하는지 확인")
+    void testManualReset() {
+        assertThrows(BeanCreationException.class, () -> initializer.initialize("resettable"));
+        assertThrows(LazyInitGroupUnavailableException.class, () -> initializer.initialize("resettable"));
+
+        ResettableClient.available.set(true);
+        assertEquals(Boolean.TRUE, endpoint.resetFailure("resettable"));
+        assertEquals(Boolean.FALSE, endpoint.resetFailure("resettable"), "이미 초기화된 상태는 false를 반환해야 합니다");
+        assertNull(endpoint.resetFailure("unknown"));
+
+        initializer.initialize("resettable");
+        assertEquals(2, ResettableClient.attempts.get());
+        assertEquals(LazyInitGroupStatus.INITIALIZED, initializer.getStatus("resettable"));
+    }
+}
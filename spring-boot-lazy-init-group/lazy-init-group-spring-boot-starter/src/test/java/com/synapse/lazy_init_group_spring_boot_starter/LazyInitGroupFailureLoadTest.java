@@ -0,0 +1,128 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupFailureGuard;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupFailureStats;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupInitializer;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("실패하는 그룹에 대한 동시 요청 부하 테스트")
+class LazyInitGroupFailureLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyInitGroupFailureLoadTest.class);
+
+    private static final int THREADS = 8;
+
+    private static final long LOAD_MILLIS = 1_000;
+
+    private static final long CONSTRUCTION_CPU_MILLIS = 5;
+
+    @Configuration
+    @EnableAutoConfiguration
+    @Import(BrokenIndexService.class)
+    static class FailureLoadTestConfig {
+    }
+
+    // 비싼 생성 작업(CPU 사용) 끝에 항상 실패하는 빈
+    @LazyInitGroup("storm")
+    static class BrokenIndexService {
+
+        static final AtomicInteger constructions = new AtomicInteger();
+
+        public BrokenIndexService() {
+            constructions.incrementAndGet();
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CONSTRUCTION_CPU_MILLIS);
+            long checksum = 0;
+            while (System.nanoTime() < deadline) {
+                checksum += checksum * 31 + 7;
+            }
+            throw new IllegalStateException("인덱스 파일이 손상되었습니다 (" + checksum + ")");
+        }
+    }
+
+    private record LoadResult(long calls, int constructions, long fastFailures) {
+    }
+
+    @Test
+    @DisplayName("실패 캐시가 있으면 동시 요청이 생성 경로를 반복하지 않고 즉시 실패하는지 확인")
+    void testFailureCachePreventsConstructionStorm() throws Exception {
+        LoadResult unguarded = runLoad("lazy-init.failure.enabled=false");
+        LoadResult guarded = runLoad("lazy-init.failure.enabled=true", "lazy-init.failure.initial-backoff=100ms");
+
+        logger.info("[LAZY-INIT] 실패 그룹 부하 ({} 스레드, {} ms): 가드 없음 호출 {} / 생성 {}, 가드 사용 호출 {} / 생성 {} / 즉시 실패 {}",
+                  THREADS, LOAD_MILLIS, unguarded.calls(), unguarded.constructions(),
+                  guarded.calls(), guarded.constructions(), guarded.fastFailures());
+
+        assertEquals(unguarded.calls(), unguarded.constructions(), "가드가 없으면 모든 호출이 생성 경로를 다시 실행합니다");
+
+        // 100ms부터 두 배씩 늘어나는 백오프에서는 1초 동안 재시도 창이 많아야 다섯 번 열림
+        assertTrue(guarded.constructions() <= 5, "생성 시도 횟수: " + guarded.constructions());
+        assertEquals(guarded.calls() - guarded.constructions(), guarded.fastFailures());
+        assertTrue(guarded.calls() > unguarded.calls(), "즉시 실패는 생성 경로보다 훨씬 가벼워야 합니다");
+    }
+
+    private LoadResult runLoad(String... properties) throws Exception {
+        BrokenIndexService.constructions.set(0);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(FailureLoadTestConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties("lazy-init.groups=storm")
+                .properties(properties)
+                .run()) {
+            LazyInitGroupInitializer initializer = context.getBean(LazyInitGroupInitializer.class);
+            AtomicLong calls = new AtomicLong();
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(LOAD_MILLIS);
+
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    futures.add(executor.submit(() -> {
+                        while (System.nanoTime() < deadline) {
+                            calls.incrementAndGet();
+                            try {
+                                initializer.initialize("storm");
+                                fail("항상 실패하는 그룹입니다");
+                            } catch (LazyInitGroupUnavailableException expected) {
+                                // 재시도 대기 중 즉시 실패
+                            } catch (BeanCreationException expected) {
+                                // 실제 생성 실패
+                            }
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            LazyInitGroupFailureGuard guard = context.getBeanProvider(LazyInitGroupFailureGuard.class).getIfAvailable();
+            LazyInitGroupFailureStats stats = guard != null ? guard.getStats("storm") : null;
+            return new LoadResult(calls.get(), BrokenIndexService.constructions.get(), stats != null ? stats.fastFailures() : 0);
+        }
+    }
+}
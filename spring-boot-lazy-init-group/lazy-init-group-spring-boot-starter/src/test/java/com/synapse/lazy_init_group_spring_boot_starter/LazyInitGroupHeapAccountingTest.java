@@ -0,0 +1,162 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.actuator.LazyInitGroupEndpoint;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupInitializer;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupStatus;
+import com.synapse.lazy_init_group_spring_boot_starter.heap.LazyInitGroupHeapAccountant;
+import com.synapse.lazy_init_group_spring_boot_starter.heap.LazyInitGroupHeapEstimate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+    classes = LazyInitGroupHeapAccountingTest.HeapAccountingTestConfig.class,
+    properties = {
+        "lazy-init.groups=reporting,search",
+        "lazy-init.heap-accounting.enabled=true",
+        "management.endpoints.web.exposure.include=lazyinitgroups"
+    })
+@DisplayName("그룹별 유지 힙 추정 테스트")
+class LazyInitGroupHeapAccountingTest {
+
+    private static final int REPORT_CACHE_SIZE = 4 * 1024 * 1024;
+
+    @Configuration
+    @EnableAutoConfiguration
+    @Import({ReportCache.class, ReportService.class, SearchDictionary.class, SearchIndex.class})
+    static class HeapAccountingTestConfig {
+    }
+
+    @LazyInitGroup("reporting")
+    static class ReportCache {
+
+        private final byte[] data = new byte[REPORT_CACHE_SIZE];
+
+        byte[] getData() {
+            return data;
+        }
+    }
+
+    @LazyInitGroup("reporting")
+    static class ReportService {
+
+        private final ReportCache reportCache;
+
+        ReportService(ReportCache reportCache) {
+            this.reportCache = reportCache;
+        }
+    }
+
+    // 그룹에 속하지 않아 시작 시 생성되는 빈. 보유한 배열은 그룹 빈도 참조하지만 그룹 크기에 포함되면 안 됨
+    static class SearchDictionary {
+
+        private final byte[] words = new byte[REPORT_CACHE_SIZE];
+
+        byte[] getWords() {
+            return words;
+        }
+    }
+
+    @LazyInitGroup("search")
+    static class SearchIndex {
+
+        private final Map<String, String> terms = Map.of("lazy", "init");
+
+        private final byte[] words;
+
+        SearchIndex(SearchDictionary dictionary) {
+            this.words = dictionary.getWords();
+        }
+    }
+
+    @Autowired
+    private LazyInitGroupInitializer initializer;
+
+    @Autowired
+    private LazyInitGroupHeapAccountant heapAccountant;
+
+    @Autowired
+    private LazyInitGroupEndpoint endpoint;
+
+    private LazyInitGroupHeapEstimate awaitEstimate(String groupName) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (heapAccountant.getEstimate(groupName) == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return heapAccountant.getEstimate(groupName);
+    }
+
+    @Test
+    @DisplayName("그룹 초기화 후 그룹이 보유한 객체 그래프 크기를 추정하는지 확인")
+    void testRetainedHeapEstimatedAfterInitialization() throws InterruptedException {
+        initializer.initialize("reporting");
+        initializer.initialize("search");
+
+        LazyInitGroupHeapEstimate reporting = awaitEstimate("reporting");
+        LazyInitGroupHeapEstimate search = awaitEstimate("search");
+        assertNotNull(reporting);
+        assertNotNull(search);
+
+        assertTrue(reporting.retainedBytes() >= REPORT_CACHE_SIZE, "byte 배열 크기 이상이어야 합니다: " + reporting.retainedBytes());
+        assertTrue(reporting.retainedBytes() < REPORT_CACHE_SIZE * 2L, "공유 객체는 포함하지 않아야 합니다: " + reporting.retainedBytes());
+        assertFalse(reporting.truncated());
+        assertTrue(search.retainedBytes() < REPORT_CACHE_SIZE,
+            "다른 싱글톤에서 도달 가능한 객체는 포함하지 않아야 합니다: " + search.retainedBytes());
+
+        List<LazyInitGroupHeapEstimate> ranking = heapAccountant.getEstimates();
+        assertEquals("reporting", ranking.get(0).groupName(), "절감량이 큰 그룹이 먼저 정렬되어야 합니다");
+        assertEquals(reporting.retainedBytes() * (reporting.delaySinceStartup().toMillis() / 60_000.0),
+            reporting.savedByteMinutes(), 1.0);
+    }
+
+    @Test
+    @DisplayName("크기가 같으면 더 오래 지연된 그룹이 앞에 정렬되는지 확인")
+    void testLongerDeferredGroupRanksHigher() {
+        LazyInitGroupHeapEstimate touchedAtStartup = new LazyInitGroupHeapEstimate(
+            "startup", REPORT_CACHE_SIZE, 1, false, Duration.ofMillis(5), Duration.ofMillis(1));
+        LazyInitGroupHeapEstimate deferredForHours = new LazyInitGroupHeapEstimate(
+            "nightly", REPORT_CACHE_SIZE, 1, false, Duration.ofMillis(5), Duration.ofHours(3));
+        LazyInitGroupHeapEstimate neverDeferred = new LazyInitGroupHeapEstimate(
+            "eager", REPORT_CACHE_SIZE, 1, false, Duration.ofMillis(5), Duration.ZERO);
+
+        List<LazyInitGroupHeapEstimate> ranking = Stream.of(touchedAtStartup, neverDeferred, deferredForHours)
+            .sorted(LazyInitGroupHeapEstimate.BY_SAVED_BYTE_MINUTES)
+            .toList();
+
+        assertEquals(List.of(deferredForHours, touchedAtStartup, neverDeferred), ranking);
+        assertEquals(0, neverDeferred.savedByteMinutes());
+    }
+
+    @Test
+    @DisplayName("상태 엔드포인트가 그룹 상태와 추정치를 절감량 순으로 노출하는지 확인")
+    void testEndpointReportsGroupStatus() throws InterruptedException {
+        initializer.initialize("reporting");
+        initializer.initialize("search");
+        awaitEstimate("reporting");
+        awaitEstimate("search");
+
+        Map<String, LazyInitGroupEndpoint.GroupDescriptor> groups = endpoint.groups();
+        assertEquals(List.of("reporting", "search"), List.copyOf(groups.keySet()));
+
+        LazyInitGroupEndpoint.GroupDescriptor reporting = groups.get("reporting");
+        assertEquals(LazyInitGroupStatus.INITIALIZED, reporting.status());
+        assertEquals(2, reporting.beanCount());
+        assertNotNull(reporting.initializationMillis());
+        assertTrue(reporting.retainedBytes() >= REPORT_CACHE_SIZE);
+
+        assertNull(endpoint.group("unknown"));
+    }
+}
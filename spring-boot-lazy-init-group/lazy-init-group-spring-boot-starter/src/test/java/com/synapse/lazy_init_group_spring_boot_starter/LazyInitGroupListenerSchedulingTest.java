@@ -0,0 +1,129 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+    classes = LazyInitGroupListenerSchedulingTest.ListenerSchedulingTestConfig.class,
+    properties = "lazy-init.groups=batch")
+@DisplayName("이벤트 리스너/스케줄 빈 지연 초기화 테스트")
+class LazyInitGroupListenerSchedulingTest {
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EnableScheduling
+    @Import({ReportEventListener.class, ScheduledReportJob.class})
+    static class ListenerSchedulingTestConfig {
+    }
+
+    record ReportRequestedEvent(String name) {
+    }
+
+    @LazyInitGroup("batch")
+    static class ReportEventListener {
+
+        static final AtomicInteger receivedCount = new AtomicInteger();
+
+        @EventListener
+        public void onReportRequested(ReportRequestedEvent event) {
+            receivedCount.incrementAndGet();
+        }
+    }
+
+    @LazyInitGroup("batch")
+    static class ScheduledReportJob {
+
+        static final AtomicReference<String> constructorThread = new AtomicReference<>();
+
+        static final AtomicInteger executionCount = new AtomicInteger();
+
+        public ScheduledReportJob() {
+            constructorThread.set(Thread.currentThread().getName());
+        }
+
+        @Scheduled(initialDelay = 200, fixedDelay = 50)
+        public void run() {
+            executionCount.incrementAndGet();
+        }
+    }
+
+    private static boolean isCreated(ConfigurableApplicationContext applicationContext, Class<?> beanClass) {
+        LazyInitGroupRegistry registry = applicationContext.getBean(LazyInitGroupRegistry.class);
+        return registry.getBeanNames("batch").stream()
+            .filter(beanName -> beanName.endsWith(beanClass.getName()))
+            .anyMatch(applicationContext.getBeanFactory()::containsSingleton);
+    }
+
+    @Nested
+    @DisplayName("기본 지연 초기화")
+    class DefaultModeTest {
+
+        @Autowired
+        private ConfigurableApplicationContext applicationContext;
+
+        @Test
+        @DisplayName("@EventListener 빈은 해당 이벤트가 발행될 때 생성되는지 확인")
+        void testEventListenerCreatedOnMatchingEvent() {
+            assertFalse(isCreated(applicationContext, ReportEventListener.class),
+                "이벤트 발행 전에는 ReportEventListener가 생성되지 않아야 합니다");
+
+            int before = ReportEventListener.receivedCount.get();
+            applicationContext.publishEvent(new ReportRequestedEvent("daily"));
+
+            assertTrue(isCreated(applicationContext, ReportEventListener.class));
+            assertEquals(before + 1, ReportEventListener.receivedCount.get());
+        }
+
+        @Test
+        @DisplayName("@Scheduled 빈은 첫 스케줄 실행 시점에 스케줄러 스레드에서 생성되는지 확인")
+        void testScheduledBeanCreatedOnFirstExecution() throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (ScheduledReportJob.executionCount.get() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertTrue(isCreated(applicationContext, ScheduledReportJob.class), "첫 스케줄 실행 후 빈이 생성되어야 합니다");
+            assertTrue(ScheduledReportJob.executionCount.get() >= 2, "빈 생성 이후 스프링이 스케줄을 이어서 실행해야 합니다");
+            assertTrue(ScheduledReportJob.constructorThread.get().startsWith("scheduling-"),
+                "빈은 컨텍스트 시작 스레드가 아닌 스케줄러 스레드에서 생성되어야 합니다: " + ScheduledReportJob.constructorThread.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("그룹 프록시 사용 시")
+    @TestPropertySource(properties = "lazy-init.reactive.enabled=true")
+    class ProxyModeTest {
+
+        @Autowired
+        private ConfigurableApplicationContext applicationContext;
+
+        @Test
+        @DisplayName("프록시와 타겟이 함께 있어도 이벤트가 한 번만 전달되는지 확인")
+        void testEventDeliveredOnce() {
+            int before = ReportEventListener.receivedCount.get();
+            applicationContext.publishEvent(new ReportRequestedEvent("weekly"));
+
+            assertEquals(before + 1, ReportEventListener.receivedCount.get());
+            assertTrue(isCreated(applicationContext, ReportEventListener.class));
+        }
+    }
+}
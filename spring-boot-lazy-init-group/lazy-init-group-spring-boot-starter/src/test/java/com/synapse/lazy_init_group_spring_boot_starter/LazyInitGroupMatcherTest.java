@@ -0,0 +1,121 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupMatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("계층형/와일드카드 그룹명 매칭 테스트")
+class LazyInitGroupMatcherTest {
+
+    @Test
+    @DisplayName("정확한 계층형 그룹명은 자신만 매칭되는지 확인")
+    void testExactHierarchicalName() {
+        LazyInitGroupMatcher matcher = LazyInitGroupMatcher.compile(List.of("reporting.pdf"));
+
+        assertTrue(matcher.matches("reporting.pdf"));
+        assertFalse(matcher.matches("reporting"));
+        assertFalse(matcher.matches("reporting.pdf.monthly"));
+        assertFalse(matcher.matches("reporting.csv"));
+    }
+
+    @Test
+    @DisplayName("'*'는 한 단계, '**'는 자신을 포함한 모든 하위 그룹과 매칭되는지 확인")
+    void testWildcards() {
+        LazyInitGroupMatcher singleLevel = LazyInitGroupMatcher.compile(List.of("reporting.*"));
+        assertTrue(singleLevel.matches("reporting.pdf"));
+        assertFalse(singleLevel.matches("reporting"));
+        assertFalse(singleLevel.matches("reporting.pdf.monthly"));
+
+        LazyInitGroupMatcher anyLevel = LazyInitGroupMatcher.compile(List.of("reporting.**"));
+        assertTrue(anyLevel.matches("reporting"));
+        assertTrue(anyLevel.matches("reporting.pdf"));
+        assertTrue(anyLevel.matches("reporting.pdf.monthly"));
+        assertFalse(anyLevel.matches("search"));
+
+        LazyInitGroupMatcher middle = LazyInitGroupMatcher.compile(List.of("*.legacy", "**.batch"));
+        assertTrue(middle.matches("reporting.legacy"));
+        assertFalse(middle.matches("reporting.pdf.legacy"));
+        assertTrue(middle.matches("batch"));
+        assertTrue(middle.matches("reporting.pdf.batch"));
+    }
+
+    @Test
+    @DisplayName("제외 패턴은 순서와 관계없이 포함 패턴보다 우선하는지 확인")
+    void testNegation() {
+        LazyInitGroupMatcher matcher = LazyInitGroupMatcher.compile(List.of("!reporting.legacy", "reporting.*"));
+
+        assertTrue(matcher.matches("reporting.pdf"));
+        assertFalse(matcher.matches("reporting.legacy"));
+        assertFalse(LazyInitGroupMatcher.compile(List.of("!reporting.legacy")).matches("reporting.pdf"),
+                    "제외 패턴만 있으면 아무 그룹도 매칭되지 않아야 합니다");
+    }
+
+    @Test
+    @DisplayName("제외 패턴은 제외한 그룹의 하위 그룹에도 적용되는지 확인")
+    void testNegationAppliesToSubgroups() {
+        LazyInitGroupMatcher matcher = LazyInitGroupMatcher.compile(List.of("reporting.**", "!reporting.legacy"));
+
+        assertTrue(matcher.matches("reporting"));
+        assertTrue(matcher.matches("reporting.pdf.monthly"));
+        assertTrue(matcher.matches("reporting.legacyx"));
+        assertFalse(matcher.matches("reporting.legacy"));
+        assertFalse(matcher.matches("reporting.legacy.sub"));
+        assertFalse(matcher.matches("reporting.legacy.sub.nightly"));
+
+        LazyInitGroupMatcher wildcard = LazyInitGroupMatcher.compile(List.of("**", "!*.legacy"));
+        assertTrue(wildcard.matches("legacy"));
+        assertFalse(wildcard.matches("search.legacy.index"));
+        assertTrue(wildcard.matches("search.pdf.legacy"));
+    }
+
+    @Test
+    @DisplayName("패턴과 세그먼트 앞뒤 공백 및 빈 항목을 무시하는지 확인")
+    void testTrimming() {
+        LazyInitGroupMatcher matcher = LazyInitGroupMatcher.compile(List.of(" groupA", "groupB ", "", " ! reporting . legacy ", "reporting.*"));
+
+        assertTrue(matcher.matches("groupA"));
+        assertTrue(matcher.matches("groupB"));
+        assertFalse(matcher.matches("reporting.legacy"));
+        assertEquals(List.of("groupA", "groupB", "!reporting . legacy", "reporting.*"), matcher.getPatterns());
+        assertTrue(LazyInitGroupMatcher.compile(List.of(" ", "!groupA")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("많은 패턴에서도 트라이로 컴파일되어 정확히 매칭되는지 확인")
+    void testManyPatterns() {
+        List<String> patterns = IntStream.range(0, 1_000).mapToObj(i -> "module" + i + ".*").toList();
+        LazyInitGroupMatcher matcher = LazyInitGroupMatcher.compile(patterns);
+
+        assertTrue(matcher.matches("module999.api"));
+        assertFalse(matcher.matches("module1000.api"));
+        assertFalse(matcher.matches("module1"));
+    }
+
+    @Nested
+    @SpringBootTest(
+        classes = TestApplication.class,
+        properties = "lazy-init.groups=groupA, groupB")
+    @DisplayName("후처리기에 적용")
+    class PostProcessorTest {
+
+        @Autowired
+        private ConfigurableApplicationContext applicationContext;
+
+        @Test
+        @DisplayName("콤마 뒤 공백이 있어도 모든 그룹이 지연 초기화되는지 확인")
+        void testGroupsTrimmed() {
+            assertTrue(applicationContext.getBeanFactory().getBeanDefinition("lazyServiceA").isLazyInit());
+            assertTrue(applicationContext.getBeanFactory().getBeanDefinition("lazyServiceB").isLazyInit());
+            assertFalse(applicationContext.getBeanFactory().getBeanDefinition("normalService").isLazyInit());
+        }
+    }
+}
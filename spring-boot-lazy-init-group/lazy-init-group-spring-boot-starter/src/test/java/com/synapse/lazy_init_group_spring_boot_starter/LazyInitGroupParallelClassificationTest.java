@@ -0,0 +1,173 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupRegistry;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupResolver;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupSelector;
+import com.synapse.lazy_init_group_spring_boot_starter.processor.BeanDefinitionClassifier;
+import com.synapse.lazy_init_group_spring_boot_starter.processor.ExcludeGroupBeanDefinitionRegistryPostProcessor;
+import com.synapse.lazy_init_group_spring_boot_starter.processor.LazyInitGroupBeanFactoryPostProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("빈 정의 병렬 분류 테스트")
+class LazyInitGroupParallelClassificationTest {
+
+    // 병렬 분기 임계값(256)을 넘도록 그룹별 빈 정의를 충분히 등록
+    private static final int COPIES = 200;
+
+    @LazyInitGroup("reporting")
+    static class ReportingService {
+    }
+
+    @LazyInitGroup("legacy")
+    static class LegacyService {
+    }
+
+    static class PlainService {
+    }
+
+    // 정적 초기화가 서로를 참조하는 클래스. 분류 중 초기화하면 두 스레드가 서로의 초기화를 기다리며 교착될 수 있음
+    static class InitializationProbe {
+
+        static final Set<String> initializedClasses = ConcurrentHashMap.newKeySet();
+    }
+
+    @LazyInitGroup("cyclic")
+    static class CyclicLeft {
+
+        static final int VALUE;
+
+        static {
+            InitializationProbe.initializedClasses.add("CyclicLeft");
+            VALUE = CyclicRight.VALUE + 1;
+        }
+    }
+
+    @LazyInitGroup("cyclic")
+    static class CyclicRight {
+
+        static final int VALUE;
+
+        static {
+            InitializationProbe.initializedClasses.add("CyclicRight");
+            VALUE = CyclicLeft.VALUE + 1;
+        }
+    }
+
+    private static DefaultListableBeanFactory createBeanFactory() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        for (int i = 0; i < COPIES; i++) {
+            register(beanFactory, "reporting" + i, ReportingService.class.getName());
+            register(beanFactory, "legacy" + i, LegacyService.class.getName());
+            register(beanFactory, "plain" + i, PlainService.class.getName());
+            register(beanFactory, "missing" + i, "com.example.DoesNotExist" + i);
+        }
+        return beanFactory;
+    }
+
+    private static void register(DefaultListableBeanFactory beanFactory, String beanName, String beanClassName) {
+        GenericBeanDefinition beanDefinition = new GenericBeanDefinition();
+        beanDefinition.setBeanClassName(beanClassName);
+        beanFactory.registerBeanDefinition(beanName, beanDefinition);
+    }
+
+    private static List<String> process(BeanDefinitionClassifier classifier, LazyInitGroupRegistry registry) {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("lazy-init.groups", "reporting")
+            .withProperty("lazy-init.exclude-groups", "legacy");
+        LazyInitGroupSelector selector = LazyInitGroupSelector.from(environment);
+        DefaultListableBeanFactory beanFactory = createBeanFactory();
+
+        LazyInitGroupResolver resolver = LazyInitGroupResolver.from(environment);
+
+        new ExcludeGroupBeanDefinitionRegistryPostProcessor(selector, classifier, resolver).postProcessBeanDefinitionRegistry(beanFactory);
+        new LazyInitGroupBeanFactoryPostProcessor(environment, registry, selector, classifier, resolver).postProcessBeanFactory(beanFactory);
+
+        List<String> result = new ArrayList<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            result.add(beanName + ":" + beanFactory.getBeanDefinition(beanName).isLazyInit());
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("병렬 분류 결과가 순차 분류와 같은지 확인")
+    void testParallelMatchesSequential() {
+        LazyInitGroupRegistry sequentialRegistry = new LazyInitGroupRegistry();
+        LazyInitGroupRegistry parallelRegistry = new LazyInitGroupRegistry();
+
+        List<String> sequential = process(BeanDefinitionClassifier.sequential(), sequentialRegistry);
+        List<String> parallel = process(new BeanDefinitionClassifier(4), parallelRegistry);
+
+        assertEquals(sequential, parallel, "병렬 분류 후 남은 빈 정의와 지연 설정이 순차 분류와 같아야 합니다");
+        assertEquals(COPIES * 3, parallel.size(), "제외 그룹 빈 정의만 제거되어야 합니다");
+        assertTrue(parallel.contains("reporting0:true"));
+        assertTrue(parallel.contains("plain0:false"));
+        assertEquals(sequentialRegistry.getBeanNames("reporting"), parallelRegistry.getBeanNames("reporting"));
+        assertEquals(COPIES, parallelRegistry.getBeanNames("reporting").size());
+    }
+
+    @Test
+    @DisplayName("분류 결과가 등록 순서를 유지하고 그룹 없는 빈은 제외하는지 확인")
+    void testClassifyPreservesOrder() {
+        DefaultListableBeanFactory beanFactory = createBeanFactory();
+        String[] beanNames = beanFactory.getBeanDefinitionNames();
+
+        Map<String, String> groupNames = new BeanDefinitionClassifier(4).classify(
+            beanNames, beanFactory::getBeanDefinition,
+            beanDefinition -> Optional.ofNullable(beanDefinition.getBeanClassName())
+                .filter(name -> !name.equals(PlainService.class.getName()) && !name.startsWith("com.example"))
+                .map(name -> name.equals(ReportingService.class.getName()) ? "reporting" : "legacy"));
+
+        assertEquals(COPIES * 2, groupNames.size());
+        List<String> expectedOrder = new ArrayList<>();
+        for (int i = 0; i < COPIES; i++) {
+            expectedOrder.add("reporting" + i);
+            expectedOrder.add("legacy" + i);
+        }
+        assertEquals(expectedOrder, new ArrayList<>(groupNames.keySet()));
+    }
+
+    @Test
+    @DisplayName("병렬 분류는 빈 클래스를 초기화하지 않아 정적 초기화가 순환하는 클래스도 교착 없이 분류하는지 확인")
+    void testClassifyWithoutInitializingClasses() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        for (int i = 0; i < COPIES; i++) {
+            register(beanFactory, "left" + i, CyclicLeft.class.getName());
+            register(beanFactory, "right" + i, CyclicRight.class.getName());
+        }
+        LazyInitGroupResolver resolver = new LazyInitGroupResolver();
+
+        Map<String, String> groupNames = assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+            new BeanDefinitionClassifier(4).classify(beanFactory.getBeanDefinitionNames(), beanFactory::getBeanDefinition,
+                                                     resolver::resolve));
+
+        assertEquals(COPIES * 2, groupNames.size());
+        assertTrue(groupNames.values().stream().allMatch("cyclic"::equals));
+        assertTrue(InitializationProbe.initializedClasses.isEmpty(),
+                   "분류는 클래스를 로드만 하고 초기화하지 않아야 합니다: " + InitializationProbe.initializedClasses);
+    }
+
+    @Test
+    @DisplayName("프로퍼티로 병렬 분류를 켜고 병렬도를 지정하는지 확인")
+    void testFromEnvironment() {
+        assertEquals(1, BeanDefinitionClassifier.from(new MockEnvironment()).getParallelism());
+        assertEquals(3, BeanDefinitionClassifier.from(new MockEnvironment()
+            .withProperty("lazy-init.parallel-classification.enabled", "true")
+            .withProperty("lazy-init.parallel-classification.parallelism", "3")).getParallelism());
+    }
+}
@@ -0,0 +1,120 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupInitializer;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupStatus;
+import com.synapse.lazy_init_group_spring_boot_starter.web.LazyInitGroupPrefetchFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+    classes = LazyInitGroupPrefetchTest.PrefetchTestConfig.class,
+    properties = {
+        "lazy-init.groups=reporting",
+        "lazy-init.prefetch.enabled=true",
+        "lazy-init.prefetch.routes.reporting=/admin/reports/**, /admin/export/**"
+    })
+@DisplayName("라우트 기반 그룹 사전 초기화 테스트")
+class LazyInitGroupPrefetchTest {
+
+    private static final String REPORTING_BEAN_NAME = ReportingService.class.getName();
+
+    @Configuration
+    @EnableAutoConfiguration
+    @Import(ReportingService.class)
+    static class PrefetchTestConfig {
+    }
+
+    @LazyInitGroup("reporting")
+    static class ReportingService {
+    }
+
+    // 초기화를 직접 트리거하지 않고 필터가 시작한 비동기 초기화가 끝나기를 기다림
+    private static void awaitInitialized(LazyInitGroupInitializer initializer, String groupName) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!initializer.isInitialized(groupName) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Nested
+    @DisplayName("리액티브 WebFilter")
+    @AutoConfigureWebTestClient
+    @TestPropertySource(properties = "spring.main.web-application-type=reactive")
+    class ReactivePrefetchTest {
+
+        @Autowired
+        private WebTestClient webTestClient;
+
+        @Autowired
+        private LazyInitGroupInitializer initializer;
+
+        @Autowired
+        private ConfigurableApplicationContext applicationContext;
+
+        @Test
+        @DisplayName("매핑된 경로 요청 시 그룹 초기화가 시작되는지 확인")
+        void testPrefetchOnMatchingRoute() throws Exception {
+            webTestClient.get().uri("/public/home").exchange();
+            assertEquals(LazyInitGroupStatus.NOT_INITIALIZED, initializer.getStatus("reporting"),
+                "매핑되지 않은 경로는 그룹 초기화를 시작하지 않아야 합니다");
+
+            webTestClient.get().uri("/admin/reports/daily").exchange();
+
+            awaitInitialized(initializer, "reporting");
+            assertTrue(applicationContext.getBeanFactory().containsSingleton(REPORTING_BEAN_NAME),
+                "매핑된 경로 요청 후 reporting 그룹의 빈이 생성되어야 합니다");
+            assertEquals(LazyInitGroupStatus.INITIALIZED, initializer.getStatus("reporting"));
+        }
+    }
+
+    @Nested
+    @DisplayName("서블릿 Filter")
+    @TestPropertySource(properties = "spring.main.web-application-type=servlet")
+    class ServletPrefetchTest {
+
+        @Autowired
+        private LazyInitGroupPrefetchFilter prefetchFilter;
+
+        @Autowired
+        private LazyInitGroupInitializer initializer;
+
+        @Autowired
+        private ConfigurableApplicationContext applicationContext;
+
+        @Test
+        @DisplayName("컨텍스트 경로를 제외한 요청 경로로 그룹 초기화가 시작되는지 확인")
+        void testPrefetchOnMatchingRoute() throws Exception {
+            assertFalse(applicationContext.getBeanFactory().containsSingleton(REPORTING_BEAN_NAME),
+                "요청 전에는 reporting 그룹의 빈이 생성되지 않아야 합니다");
+
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/admin/export/csv");
+            request.setContextPath("/app");
+            MockFilterChain filterChain = new MockFilterChain();
+            prefetchFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+            assertNotNull(filterChain.getRequest(), "필터 체인은 계속 진행되어야 합니다");
+
+            awaitInitialized(initializer, "reporting");
+            assertTrue(applicationContext.getBeanFactory().containsSingleton(REPORTING_BEAN_NAME),
+                "매핑된 경로 요청 후 reporting 그룹의 빈이 생성되어야 합니다");
+        }
+    }
+}
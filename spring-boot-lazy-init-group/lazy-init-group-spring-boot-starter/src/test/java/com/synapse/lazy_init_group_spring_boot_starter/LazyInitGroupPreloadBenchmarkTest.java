@@ -0,0 +1,116 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.config.LazyInitGroupAutoConfiguration;
+import com.synapse.lazy_init_group_spring_boot_starter.preload.LazyInitGroupClassPreloader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 클래스 로딩 비용은 JVM마다 한 번뿐이므로 시도마다 새 JVM을 띄워 첫 호출 지연 시간을 측정.
+// 실행: ./gradlew test -Pbenchmark=true --tests '*PreloadBenchmarkTest'
+@EnabledIfSystemProperty(named = "lazy-init.benchmark", matches = "true")
+@DisplayName("클래스 사전 로딩 첫 호출 지연 시간 벤치마크")
+class LazyInitGroupPreloadBenchmarkTest {
+
+    private static final int TRIALS = 7;
+
+    private static final String RESULT_PREFIX = "FIRST_CALL_MICROS=";
+
+    @Configuration
+    @Import({LazyInitGroupAutoConfiguration.class, AnalyticsService.class})
+    static class BenchmarkConfig {
+    }
+
+    @LazyInitGroup("analytics")
+    static class AnalyticsService {
+
+        private final ObjectMapper objectMapper = new ObjectMapper();
+
+        public String analyze(Map<String, Object> metrics) throws Exception {
+            return objectMapper.writeValueAsString(metrics);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        boolean preload = Boolean.parseBoolean(args[0]);
+        ConfigurableApplicationContext applicationContext = new SpringApplicationBuilder(BenchmarkConfig.class)
+            .web(WebApplicationType.NONE)
+            .logStartupInfo(false)
+            .properties(
+                "lazy-init.groups=analytics",
+                "lazy-init.preload.enabled=" + preload,
+                "lazy-init.preload.initialize=true",
+                "logging.level.root=warn")
+            .run();
+
+        if (preload) {
+            applicationContext.getBean(LazyInitGroupClassPreloader.class).getCompletion().join();
+        }
+
+        long startTime = System.nanoTime();
+        applicationContext.getBean(AnalyticsService.class).analyze(Map.of("requests", 42));
+        long elapsed = System.nanoTime() - startTime;
+
+        System.out.println(RESULT_PREFIX + elapsed / 1_000);
+        applicationContext.close();
+    }
+
+    private static long runTrial(boolean preload) throws Exception {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                                             LazyInitGroupPreloadBenchmarkTest.class.getName(), String.valueOf(preload))
+            .redirectErrorStream(true)
+            .start();
+
+        Long result = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    result = Long.parseLong(line.substring(RESULT_PREFIX.length()));
+                }
+            }
+        }
+        assertEquals(0, process.waitFor(), "벤치마크 프로세스가 정상 종료되어야 합니다");
+        assertNotNull(result, "첫 호출 지연 시간이 출력되어야 합니다");
+        return result;
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = values.stream().sorted().toList();
+        return sorted.get(sorted.size() / 2);
+    }
+
+    @Test
+    @DisplayName("사전 로딩 여부에 따른 첫 호출 지연 시간 비교")
+    void benchmarkFirstCallLatency() throws Exception {
+        List<Long> withoutPreload = new ArrayList<>();
+        List<Long> withPreload = new ArrayList<>();
+
+        // 디스크 캐시 등 순서 효과를 줄이기 위해 번갈아 실행
+        for (int i = 0; i < TRIALS; i++) {
+            withoutPreload.add(runTrial(false));
+            withPreload.add(runTrial(true));
+        }
+
+        System.out.printf("[BENCHMARK] 첫 호출 지연 시간 중앙값 (us): 사전 로딩 없음 %d, 사전 로딩 %d (%d회)%n",
+                          median(withoutPreload), median(withPreload), TRIALS);
+        System.out.println("[BENCHMARK] 사전 로딩 없음: " + withoutPreload);
+        System.out.println("[BENCHMARK] 사전 로딩: " + withPreload);
+    }
+}
@@ -0,0 +1,95 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.preload.LazyInitGroupClassPreloader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+    classes = LazyInitGroupPreloadTest.PreloadTestConfig.class,
+    properties = {
+        "lazy-init.groups=geo",
+        "lazy-init.preload.enabled=true",
+        "lazy-init.preload.initialize=true"
+    })
+@DisplayName("지연 그룹 클래스 사전 로딩 테스트")
+class LazyInitGroupPreloadTest {
+
+    @Configuration
+    @EnableAutoConfiguration
+    @Import(GeoService.class)
+    static class PreloadTestConfig {
+    }
+
+    // 사전 로딩 대상 클래스가 아닌 곳에서 정적 초기화를 실행한 스레드를 기록
+    static class InitializationProbe {
+
+        static final Map<String, String> initializingThreads = new ConcurrentHashMap<>();
+
+        static void record(String className) {
+            initializingThreads.put(className, Thread.currentThread().getName());
+        }
+    }
+
+    static class GeoIndex {
+
+        static {
+            InitializationProbe.record("GeoIndex");
+        }
+    }
+
+    record GeoPoint(double latitude, double longitude) {
+
+        static {
+            InitializationProbe.record("GeoPoint");
+        }
+    }
+
+    @LazyInitGroup("geo")
+    static class GeoService {
+
+        static {
+            InitializationProbe.record("GeoService");
+        }
+
+        private final GeoIndex geoIndex = new GeoIndex();
+
+        public List<GeoPoint> nearby(GeoPoint origin) {
+            return List.of(origin);
+        }
+    }
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Autowired
+    private LazyInitGroupClassPreloader classPreloader;
+
+    @Test
+    @DisplayName("빈을 생성하지 않고 빈 클래스와 선언된 의존 타입만 미리 로드/초기화하는지 확인")
+    void testClassesPreloadedWithoutInstantiation() throws Exception {
+        classPreloader.getCompletion().get(5, TimeUnit.SECONDS);
+
+        // 빈 클래스 자체는 빈 정의 처리 중에도 초기화될 수 있으므로, 사전 로더만 접근하는 의존 타입이 사전 로딩 스레드에서 초기화되었는지 확인
+        for (String className : List.of("GeoIndex", "GeoPoint")) {
+            String thread = InitializationProbe.initializingThreads.get(className);
+            assertNotNull(thread, className + "는 필드/메서드 시그니처의 타입이므로 초기화되어야 합니다");
+            assertTrue(thread.startsWith("lazy-init-preload-"), className + "는 사전 로딩 스레드에서 초기화되어야 합니다: " + thread);
+        }
+        assertFalse(applicationContext.getBeanFactory().containsSingleton(GeoService.class.getName()),
+                    "사전 로딩은 빈 인스턴스를 생성하지 않아야 합니다");
+    }
+}
@@ -0,0 +1,102 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.proxy.LazyInitGroupProxyFactoryBean;
+import com.synapse.lazy_init_group_spring_boot_starter.proxy.LazyInitGroupProxyUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+    classes = LazyInitGroupProxyExclusionTest.ProxyExclusionTestConfig.class,
+    properties = {
+        "lazy-init.groups=tools",
+        "lazy-init.reactive.enabled=true"
+    })
+@DisplayName("그룹 프록시 적용 제외 대상 테스트")
+class LazyInitGroupProxyExclusionTest {
+
+    @Configuration
+    @EnableAutoConfiguration
+    @Import({ReportClientFactoryBean.class, ToolsConfiguration.class, ToolRegistry.class})
+    static class ProxyExclusionTestConfig {
+    }
+
+    static class ReportClient {
+    }
+
+    static class ToolFormatter {
+    }
+
+    @LazyInitGroup("tools")
+    static class ReportClientFactoryBean implements FactoryBean<ReportClient> {
+
+        @Override
+        public ReportClient getObject() {
+            return new ReportClient();
+        }
+
+        @Override
+        public Class<?> getObjectType() {
+            return ReportClient.class;
+        }
+    }
+
+    @LazyInitGroup("tools")
+    @Configuration
+    static class ToolsConfiguration {
+
+        @Bean
+        public ToolFormatter toolFormatter() {
+            return new ToolFormatter();
+        }
+    }
+
+    @LazyInitGroup("tools")
+    static class ToolRegistry {
+    }
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    private boolean isGroupProxy(String beanName) {
+        ConfigurableListableBeanFactory beanFactory = applicationContext.getBeanFactory();
+        return LazyInitGroupProxyFactoryBean.class.getName().equals(beanFactory.getBeanDefinition(beanName).getBeanClassName());
+    }
+
+    @Test
+    @DisplayName("FactoryBean은 프록시로 감싸지 않아 '&이름' 조회와 제품 조회가 유지되는지 확인")
+    void testFactoryBeanNotProxied() {
+        String beanName = ReportClientFactoryBean.class.getName();
+
+        assertFalse(isGroupProxy(beanName));
+        assertInstanceOf(ReportClientFactoryBean.class, applicationContext.getBean("&" + beanName));
+        assertInstanceOf(ReportClient.class, applicationContext.getBean(beanName));
+    }
+
+    @Test
+    @DisplayName("구성 클래스는 프록시로 감싸지 않아 @Bean 팩토리 메서드가 해석되는지 확인")
+    void testConfigurationNotProxied() {
+        assertFalse(isGroupProxy(ToolsConfiguration.class.getName()));
+        assertFalse(applicationContext.containsBeanDefinition(
+            LazyInitGroupProxyUtils.getTargetBeanName(ToolsConfiguration.class.getName())));
+        assertNotNull(applicationContext.getBean(ToolFormatter.class));
+    }
+
+    @Test
+    @DisplayName("일반 그룹 빈은 계속 프록시로 감싸지는지 확인")
+    void testPlainBeanProxied() {
+        assertTrue(isGroupProxy(ToolRegistry.class.getName()));
+        assertNotNull(applicationContext.getBean(ToolRegistry.class));
+    }
+}
@@ -0,0 +1,103 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.readiness.LazyInitGroupReadinessGate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("준비 상태 필수 그룹 워밍업 재시도 테스트")
+class LazyInitGroupReadinessRetryTest {
+
+    @Configuration
+    @EnableAutoConfiguration
+    @Import(InventoryService.class)
+    static class ReadinessRetryTestConfig {
+    }
+
+    @LazyInitGroup("inventory")
+    static class InventoryService {
+
+        static final AtomicInteger attempts = new AtomicInteger();
+
+        static volatile int failuresBeforeSuccess;
+
+        InventoryService() {
+            if (attempts.incrementAndGet() <= failuresBeforeSuccess) {
+                throw new IllegalStateException("재고 캐시 로딩 실패");
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext runInventoryContext(String... properties) {
+        return new SpringApplicationBuilder(ReadinessRetryTestConfig.class)
+            .web(WebApplicationType.NONE)
+            .properties("lazy-init.groups=inventory", "lazy-init.readiness.critical-groups=inventory",
+                        "lazy-init.readiness.retry-delay=50ms")
+            .properties(properties)
+            .run();
+    }
+
+    private static void awaitReadiness(ApplicationAvailability availability, ReadinessState expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (availability.getReadinessState() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("워밍업이 실패하면 지정한 횟수만큼 다시 시도하여 성공 시 트래픽을 받는지 확인")
+    void testWarmUpRetriedAfterFailure() throws InterruptedException {
+        InventoryService.attempts.set(0);
+        InventoryService.failuresBeforeSuccess = 1;
+
+        try (ConfigurableApplicationContext context = runInventoryContext("lazy-init.readiness.max-attempts=3")) {
+            ApplicationAvailability availability = context.getBean(ApplicationAvailability.class);
+            awaitReadiness(availability, ReadinessState.ACCEPTING_TRAFFIC);
+
+            assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+            assertEquals(2, InventoryService.attempts.get());
+            assertFalse(context.getBean(LazyInitGroupReadinessGate.class).isFailedOpen());
+        }
+    }
+
+    @Test
+    @DisplayName("재시도가 모두 실패하면 fail-open 설정에 따라 트래픽 수신 여부가 결정되는지 확인")
+    void testFailOpenAfterRetriesExhausted() throws InterruptedException {
+        InventoryService.attempts.set(0);
+        InventoryService.failuresBeforeSuccess = Integer.MAX_VALUE;
+
+        try (ConfigurableApplicationContext context = runInventoryContext(
+                "lazy-init.readiness.max-attempts=2", "lazy-init.readiness.fail-open=true")) {
+            ApplicationAvailability availability = context.getBean(ApplicationAvailability.class);
+            awaitReadiness(availability, ReadinessState.ACCEPTING_TRAFFIC);
+
+            assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+            assertTrue(context.getBean(LazyInitGroupReadinessGate.class).isFailedOpen());
+        }
+
+        InventoryService.attempts.set(0);
+        try (ConfigurableApplicationContext context = runInventoryContext("lazy-init.readiness.max-attempts=2")) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (InventoryService.attempts.get() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(200);
+
+            assertEquals(2, InventoryService.attempts.get(), "최대 시도 횟수를 넘겨 다시 시도하지 않아야 합니다");
+            assertEquals(ReadinessState.REFUSING_TRAFFIC, context.getBean(ApplicationAvailability.class).getReadinessState());
+        }
+    }
+}
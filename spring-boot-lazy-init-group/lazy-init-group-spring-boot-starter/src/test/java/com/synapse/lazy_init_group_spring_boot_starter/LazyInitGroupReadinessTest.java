@@ -0,0 +1,83 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.readiness.LazyInitGroupReadinessGate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+    classes = LazyInitGroupReadinessTest.ReadinessTestConfig.class,
+    properties = {
+        "lazy-init.groups=checkout,reporting",
+        "lazy-init.readiness.critical-groups=checkout"
+    })
+@DisplayName("준비 상태 필수 그룹 테스트")
+class LazyInitGroupReadinessTest {
+
+    @Configuration
+    @EnableAutoConfiguration
+    @Import({CheckoutService.class, ReportingService.class})
+    static class ReadinessTestConfig {
+    }
+
+    @LazyInitGroup("checkout")
+    static class CheckoutService {
+
+        // 테스트가 준비 상태를 확인할 때까지 워밍업이 끝나지 않도록 생성자를 붙잡아 둠
+        static final CountDownLatch warmUpAllowed = new CountDownLatch(1);
+
+        CheckoutService() throws InterruptedException {
+            warmUpAllowed.await(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @LazyInitGroup("reporting")
+    static class ReportingService {
+    }
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
+
+    @Autowired
+    private LazyInitGroupReadinessGate readinessGate;
+
+    @Test
+    @DisplayName("필수 그룹 워밍업이 끝날 때까지 트래픽을 거부하고, 활성 상태는 유지하는지 확인")
+    void testReadinessHeldUntilCriticalGroupsWarmed() throws InterruptedException {
+        assertSame(readinessGate, applicationAvailability, "게이트가 스프링 부트의 ApplicationAvailability를 대신해야 합니다");
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, readinessGate.getLastChangeEvent(ReadinessState.class).getState(),
+                     "스프링 부트가 발행한 ACCEPTING_TRAFFIC은 기록되지만 노출되지 않아야 합니다");
+        assertEquals(ReadinessState.REFUSING_TRAFFIC, applicationAvailability.getReadinessState());
+        assertEquals(LivenessState.CORRECT, applicationAvailability.getLivenessState());
+        assertFalse(readinessGate.isWarmedUp());
+
+        CheckoutService.warmUpAllowed.countDown();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (applicationAvailability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, applicationAvailability.getReadinessState());
+        assertTrue(applicationContext.getBeanFactory().containsSingleton(CheckoutService.class.getName()));
+        assertFalse(applicationContext.getBeanFactory().containsSingleton(ReportingService.class.getName()),
+                    "필수 그룹이 아닌 그룹은 계속 지연되어야 합니다");
+    }
+}
@@ -0,0 +1,179 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.context.LazyInitGroupClassLoader;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupRegistry;
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupResolver;
+import com.synapse.lazy_init_group_spring_boot_starter.service.ledger.LedgerService;
+import com.synapse.lazy_init_group_spring_boot_starter.service.ledger.audit.LedgerAuditService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("패키지/메타 애노테이션/인터페이스 그룹 조회 테스트")
+class LazyInitGroupResolverTest {
+
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    @LazyInitGroup("billing")
+    @interface BillingComponent {
+    }
+
+    @BillingComponent
+    static class InvoiceService {
+    }
+
+    @LazyInitGroup("payments")
+    interface PaymentGateway {
+    }
+
+    static class CardPaymentGateway implements PaymentGateway {
+    }
+
+    // 클래스에 직접 선언한 그룹이 인터페이스/패키지보다 우선
+    @LazyInitGroup("refunds")
+    static class RefundGateway implements PaymentGateway {
+    }
+
+    static class PlainService {
+    }
+
+    private final LazyInitGroupResolver resolver = new LazyInitGroupResolver();
+
+    @Test
+    @DisplayName("package-info에 선언된 그룹을 찾는지 확인")
+    void testPackageGroup() {
+        assertEquals(Optional.of("ledger"), resolver.resolve(LedgerService.class));
+    }
+
+    @Test
+    @DisplayName("기본적으로 package-info는 선언된 패키지에만 적용되는지 확인")
+    void testPackageGroupNotInherited() {
+        assertEquals(Optional.empty(), resolver.resolve(LedgerAuditService.class));
+        assertEquals(Optional.empty(), resolver.resolvePackage(
+            LedgerAuditService.class.getPackageName(), getClass().getClassLoader()));
+    }
+
+    @Test
+    @DisplayName("하위 패키지 포함 설정 시 package-info가 없는 하위 패키지는 상위 패키지 그룹을 따르는지 확인")
+    void testParentPackageGroup() {
+        LazyInitGroupResolver subpackageResolver = new LazyInitGroupResolver(true);
+
+        assertEquals(Optional.of("ledger"), subpackageResolver.resolve(LedgerAuditService.class));
+        assertEquals(Optional.of("ledger"), subpackageResolver.resolvePackage(
+            LedgerAuditService.class.getPackageName(), getClass().getClassLoader()));
+    }
+
+    @Test
+    @DisplayName("커스텀 스테레오타입 메타 애노테이션의 그룹을 찾는지 확인")
+    void testMetaAnnotationGroup() {
+        assertEquals(Optional.of("billing"), resolver.resolve(InvoiceService.class));
+    }
+
+    @Test
+    @DisplayName("인터페이스에 선언된 그룹을 찾고 클래스 선언이 우선하는지 확인")
+    void testInterfaceGroup() {
+        assertEquals(Optional.of("payments"), resolver.resolve(CardPaymentGateway.class));
+        assertEquals(Optional.of("refunds"), resolver.resolve(RefundGateway.class));
+    }
+
+    @Test
+    @DisplayName("그룹이 없으면 빈 결과를 반환하는지 확인")
+    void testNoGroup() {
+        assertEquals(Optional.empty(), resolver.resolve(PlainService.class));
+        assertEquals(Optional.empty(), resolver.resolve(String.class));
+    }
+
+    @Test
+    @DisplayName("같은 패키지의 결과를 캐시에서 재사용하는지 확인")
+    void testPackageResultCached() {
+        ClassLoader classLoader = getClass().getClassLoader();
+        Optional<String> first = resolver.resolvePackage(LedgerService.class.getPackageName(), classLoader);
+
+        assertSame(first, resolver.resolvePackage(LedgerService.class.getPackageName(), classLoader));
+        assertSame(first, resolver.resolve(LedgerService.class));
+    }
+
+    @Test
+    @DisplayName("자식 컨텍스트 클래스로더의 캐시 결과를 클래스로더 단위로 제거하고 부모 결과는 유지하는지 확인")
+    void testClearClassLoader() throws ClassNotFoundException {
+        ClassLoader parentLoader = getClass().getClassLoader();
+        String packageName = LedgerService.class.getPackageName();
+        LazyInitGroupClassLoader childLoader = new LazyInitGroupClassLoader("ledger", parentLoader, List.of(packageName));
+        Class<?> isolatedClass = childLoader.loadClass(LedgerService.class.getName());
+        assertNotSame(LedgerService.class, isolatedClass);
+
+        Optional<String> parentResult = resolver.resolve(LedgerService.class);
+        Optional<String> isolatedResult = resolver.resolve(isolatedClass);
+        assertEquals(Optional.of("ledger"), isolatedResult);
+        assertNotSame(parentResult, isolatedResult, "패키지 결과는 클래스로더별로 캐시되어야 합니다");
+        assertSame(isolatedResult, resolver.resolve(isolatedClass));
+
+        resolver.clearClassLoader(childLoader);
+
+        assertSame(parentResult, resolver.resolve(LedgerService.class));
+        assertSame(parentResult, resolver.resolvePackage(packageName, parentLoader));
+        assertNotSame(isolatedResult, resolver.resolve(isolatedClass), "제거된 클래스는 다시 조회되어야 합니다");
+    }
+
+    @Nested
+    @SpringBootTest(
+        classes = ResolverTestConfig.class,
+        properties = {
+            "lazy-init.groups=ledger, billing, payments",
+            "lazy-init.package-groups.include-subpackages=true"
+        })
+    @DisplayName("후처리기에서 사용 시")
+    class PostProcessorTest {
+
+        @Autowired
+        private ConfigurableApplicationContext applicationContext;
+
+        @Test
+        @DisplayName("패키지/메타 애노테이션/인터페이스 그룹의 빈이 지연 초기화되는지 확인")
+        void testBeansAreLazy() {
+            LazyInitGroupRegistry registry = applicationContext.getBean(LazyInitGroupRegistry.class);
+
+            assertEquals(Set.of(LedgerService.class.getName(), LedgerAuditService.class.getName()),
+                         registry.getBeanNames("ledger"));
+            assertEquals(Set.of(InvoiceService.class.getName()), registry.getBeanNames("billing"));
+            assertEquals(Set.of(CardPaymentGateway.class.getName()), registry.getBeanNames("payments"));
+            for (String beanName : registry.getBeanNames("ledger")) {
+                assertFalse(applicationContext.getBeanFactory().containsSingleton(beanName),
+                    "지연 그룹 빈은 시작 시 생성되지 않아야 합니다: " + beanName);
+            }
+
+            assertEquals("acc:0", applicationContext.getBean(LedgerService.class).balance("acc"));
+        }
+
+        @Test
+        @DisplayName("후처리기들이 설정이 반영된 하나의 그룹 조회기를 공유하는지 확인")
+        void testResolverShared() {
+            LazyInitGroupResolver sharedResolver = applicationContext.getBean(LazyInitGroupResolver.class);
+
+            assertEquals(Optional.of("ledger"), sharedResolver.resolve(LedgerAuditService.class));
+        }
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @Import({LedgerService.class, LedgerAuditService.class, InvoiceService.class, CardPaymentGateway.class})
+    static class ResolverTestConfig {
+    }
+}
@@ -0,0 +1,114 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("지연 그룹 @Scheduled 첫 실행 시점 테스트")
+class LazyInitGroupScheduledTimingTest {
+
+    private static final long INITIAL_DELAY_MILLIS = 1000;
+
+    private static final long ONE_TIME_DELAY_MILLIS = 300;
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EnableScheduling
+    @Import(DelayedCleanupJob.class)
+    static class ScheduledTimingTestConfig {
+    }
+
+    @LazyInitGroup("maintenance")
+    static class DelayedCleanupJob {
+
+        static final AtomicLong firstRunNanos = new AtomicLong();
+
+        static final AtomicInteger runCount = new AtomicInteger();
+
+        static final CountDownLatch firstRun = new CountDownLatch(1);
+
+        @Scheduled(initialDelay = INITIAL_DELAY_MILLIS, fixedDelay = 60_000)
+        public void cleanup() {
+            firstRunNanos.compareAndSet(0, System.nanoTime());
+            runCount.incrementAndGet();
+            firstRun.countDown();
+        }
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EnableScheduling
+    @Import(OneTimeReindexJob.class)
+    static class OneTimeTestConfig {
+    }
+
+    @LazyInitGroup("reindex")
+    static class OneTimeReindexJob {
+
+        static final AtomicInteger runCount = new AtomicInteger();
+
+        @Scheduled(initialDelay = ONE_TIME_DELAY_MILLIS)
+        public void reindex() {
+            runCount.incrementAndGet();
+        }
+    }
+
+    @Test
+    @DisplayName("initialDelay만 있는 일회성 작업은 첫 실행 시점에 빈이 생성되어도 한 번만 실행되는지 확인")
+    void testOneTimeTaskRunsOnce() throws InterruptedException {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(OneTimeTestConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties("lazy-init.groups=reindex")
+                .run()) {
+            // 예약 시점 생성(initialDelay) + 스프링의 재예약(initialDelay)이 모두 지날 때까지 대기
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ONE_TIME_DELAY_MILLIS * 4);
+            while (OneTimeReindexJob.runCount.get() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(context.getBeanFactory().containsSingleton(OneTimeReindexJob.class.getName()));
+            Thread.sleep(ONE_TIME_DELAY_MILLIS * 2);
+
+            assertEquals(1, OneTimeReindexJob.runCount.get());
+        }
+    }
+
+    @Test
+    @DisplayName("initialDelay가 있는 fixedDelay 메서드는 빈 생성 후 initialDelay를 다시 기다리지 않고 예약 시점에 첫 실행되는지 확인")
+    void testFirstRunAtInitialDelay() throws InterruptedException {
+        long startNanos = System.nanoTime();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ScheduledTimingTestConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties("lazy-init.groups=maintenance")
+                .run()) {
+            // 첫 실행은 refresh 마지막(afterSingletonsInstantiated)에 예약되므로 refresh 종료 시점 기준으로 initialDelay 이내여야 함
+            long readyNanos = System.nanoTime();
+            assertTrue(context.isRunning());
+            assertTrue(DelayedCleanupJob.firstRun.await(5, TimeUnit.SECONDS), "첫 스케줄 실행이 일어나야 합니다");
+
+            long sinceStartMillis = TimeUnit.NANOSECONDS.toMillis(DelayedCleanupJob.firstRunNanos.get() - startNanos);
+            long sinceReadyMillis = TimeUnit.NANOSECONDS.toMillis(DelayedCleanupJob.firstRunNanos.get() - readyNanos);
+            assertTrue(sinceStartMillis >= INITIAL_DELAY_MILLIS, "initialDelay보다 먼저 실행되면 안 됩니다: " + sinceStartMillis + " ms");
+            assertTrue(sinceReadyMillis < INITIAL_DELAY_MILLIS * 3 / 2,
+                "첫 실행은 약 initialDelay 시점이어야 합니다 (2 x initialDelay 아님): " + sinceReadyMillis + " ms");
+
+            // 스프링이 등록한 스케줄이 같은 주기에 한 번 더 실행하지 않는지 확인
+            Thread.sleep(INITIAL_DELAY_MILLIS / 2);
+            assertEquals(1, DelayedCleanupJob.runCount.get());
+        }
+    }
+}
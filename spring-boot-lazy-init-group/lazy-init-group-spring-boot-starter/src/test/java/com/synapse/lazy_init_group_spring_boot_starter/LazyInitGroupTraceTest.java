@@ -0,0 +1,121 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.trace.LazyInitGroupTraceInitializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("시작 추적(Chrome trace) 기록 테스트")
+class LazyInitGroupTraceTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Configuration
+    @EnableAutoConfiguration
+    @Import({ReportingService.class, AuditService.class})
+    static class TraceTestConfig {
+    }
+
+    @LazyInitGroup("reporting")
+    static class ReportingService {
+    }
+
+    @LazyInitGroup("audit")
+    static class AuditService {
+    }
+
+    private static List<JsonNode> readEvents(Path file) throws Exception {
+        List<JsonNode> events = new ArrayList<>();
+        objectMapper.readTree(Files.readString(file)).get("traceEvents").forEach(events::add);
+        return events;
+    }
+
+    private static Optional<JsonNode> findEvent(List<JsonNode> events, String name) {
+        return events.stream().filter(event -> name.equals(event.path("name").asText())).findFirst();
+    }
+
+    private static long processId(List<JsonNode> events, String processName) {
+        return events.stream()
+            .filter(event -> "process_name".equals(event.path("name").asText()))
+            .filter(event -> processName.equals(event.path("args").path("name").asText()))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("프로세스 트랙이 없습니다: " + processName))
+            .path("pid").asLong();
+    }
+
+    // 같은 스레드에서 부모 구간이 자식 구간을 시간상 포함하고 같은 트랙에 있는지
+    private static boolean encloses(JsonNode parent, JsonNode child) {
+        long parentStart = parent.path("ts").asLong();
+        long childStart = child.path("ts").asLong();
+        return parent.path("pid").asLong() == child.path("pid").asLong()
+            && parent.path("tid").asLong() == child.path("tid").asLong()
+            && parentStart <= childStart
+            && childStart + child.path("dur").asLong() <= parentStart + parent.path("dur").asLong() + 1;
+    }
+
+    @Test
+    @DisplayName("리프레시 단계, 후처리기 실행, 그룹별 빈 생성과 이후 지연 초기화가 기록되는지 확인")
+    void testTraceFileContents(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("trace/startup.json");
+
+        try (ConfigurableApplicationContext applicationContext = new SpringApplicationBuilder(TraceTestConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                    "lazy-init.groups=reporting",
+                    "lazy-init.trace.enabled=true",
+                    "lazy-init.trace.file=" + file)
+                .run()) {
+
+            assertTrue(applicationContext.containsBean(LazyInitGroupTraceInitializer.RECORDER_BEAN_NAME));
+            List<JsonNode> startupEvents = readEvents(file);
+
+            assertTrue(findEvent(startupEvents, "spring.context.refresh").isPresent(), "리프레시 단계가 기록되어야 합니다");
+            assertTrue(startupEvents.stream().anyMatch(event ->
+                    event.path("name").asText().startsWith("spring.context.bean-factory.post-process LazyInitGroupBeanFactoryPostProcessor")),
+                "후처리기 실행 구간이 기록되어야 합니다");
+
+            JsonNode auditCreation = findEvent(startupEvents, AuditService.class.getName())
+                .orElseThrow(() -> new AssertionError("즉시 생성된 그룹 빈이 기록되어야 합니다"));
+            assertEquals(processId(startupEvents, "application"), auditCreation.path("pid").asLong());
+            assertEquals("audit", auditCreation.path("args").path("group").asText());
+            assertTrue(startupEvents.stream().noneMatch(event -> event.path("args").path("name").asText().startsWith("group:")),
+                "그룹별 프로세스 트랙을 만들지 않아야 합니다");
+            assertEquals("false", auditCreation.path("args").path("lazy").asText());
+            assertEquals("startup", auditCreation.path("args").path("phase").asText());
+            JsonNode refresh = findEvent(startupEvents, "spring.context.refresh").orElseThrow();
+            assertTrue(encloses(refresh, auditCreation), "그룹 빈 생성 구간은 리프레시 구간 안에 중첩되어야 합니다");
+            assertTrue(findEvent(startupEvents, ReportingService.class.getName()).isEmpty(),
+                "지연 그룹 빈은 시작 시 생성되지 않아야 합니다");
+
+            applicationContext.getBean(ReportingService.class);
+        }
+
+        List<JsonNode> events = readEvents(file);
+        JsonNode reportingCreation = findEvent(events, ReportingService.class.getName())
+            .orElseThrow(() -> new AssertionError("이후 지연 초기화가 종료 시 기록되어야 합니다"));
+        assertEquals(processId(events, "application"), reportingCreation.path("pid").asLong());
+        assertEquals("reporting", reportingCreation.path("args").path("group").asText());
+        assertEquals("true", reportingCreation.path("args").path("lazy").asText());
+        assertEquals("after-startup", reportingCreation.path("args").path("phase").asText());
+        assertEquals(Thread.currentThread().threadId(), reportingCreation.path("tid").asLong());
+        assertTrue(events.stream().anyMatch(event -> "thread_name".equals(event.path("name").asText())
+            && event.path("tid").asLong() == Thread.currentThread().threadId()), "스레드 이름 메타데이터가 기록되어야 합니다");
+    }
+}
@@ -0,0 +1,151 @@
+package com.synapse.lazy_init_group_spring_boot_starter;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.proxy.LazyInitGroupProxyUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.blockhound.BlockHound;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+    classes = ReactiveLazyInitTest.ReactiveTestConfig.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.main.web-application-type=reactive",
+        "lazy-init.enabled=true",
+        "lazy-init.groups=reactiveGroup",
+        "lazy-init.reactive.enabled=true"
+    })
+@DisplayName("리액티브 지연 초기화 테스트")
+@Tag("blockhound")
+class ReactiveLazyInitTest {
+
+    @Configuration
+    @EnableAutoConfiguration
+    @Import({ReactiveLazyService.class, ReactiveLazyController.class, ReactiveLazyRepository.class})
+    static class ReactiveTestConfig {
+    }
+
+    @LazyInitGroup("reactiveGroup")
+    static class ReactiveLazyService {
+
+        static final AtomicReference<String> constructorThread = new AtomicReference<>();
+
+        public ReactiveLazyService() throws InterruptedException {
+            constructorThread.set(Thread.currentThread().getName());
+            // 생성 비용이 큰 빈을 흉내내는 블로킹 호출 (이벤트 루프에서 실행되면 BlockHound가 실패시킴)
+            Thread.sleep(50);
+        }
+
+        public Mono<String> getMessage() {
+            return Mono.just("Reactive Lazy Service Message");
+        }
+    }
+
+    @LazyInitGroup("reactiveGroup")
+    static class ReactiveLazyRepository {
+
+        public Mono<String> findName() {
+            return Mono.just("lazy");
+        }
+    }
+
+    @RestController
+    static class ReactiveLazyController {
+
+        private final ReactiveLazyService reactiveLazyService;
+
+        ReactiveLazyController(ReactiveLazyService reactiveLazyService) {
+            this.reactiveLazyService = reactiveLazyService;
+        }
+
+        @GetMapping("/reactive-lazy")
+        public Mono<String> message() {
+            return reactiveLazyService.getMessage();
+        }
+    }
+
+    // JVM 전체를 계측하므로 blockHoundTest 태스크(별도 JVM)에서만 실행
+    @BeforeAll
+    static void installBlockHound() {
+        BlockHound.install();
+    }
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Autowired
+    private ReactiveLazyRepository reactiveLazyRepository;
+
+    @Test
+    @DisplayName("첫 호출 시 빈 생성이 이벤트 루프가 아닌 boundedElastic 스레드에서 수행되는지 확인")
+    void testLazyBeanCreatedOffEventLoop() {
+        String targetBeanName = LazyInitGroupProxyUtils.getTargetBeanName(ReactiveLazyService.class.getName());
+
+        assertFalse(applicationContext.getBeanFactory().containsSingleton(targetBeanName),
+            "첫 요청 전에는 ReactiveLazyService가 생성되지 않아야 합니다");
+
+        webTestClient.get().uri("/reactive-lazy")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(String.class).isEqualTo("Reactive Lazy Service Message");
+
+        assertTrue(applicationContext.getBeanFactory().containsSingleton(targetBeanName),
+            "첫 요청 후에는 ReactiveLazyService가 생성되어야 합니다");
+        assertTrue(ReactiveLazyService.constructorThread.get().startsWith("boundedElastic"),
+            "빈 생성은 boundedElastic 스레드에서 수행되어야 합니다: " + ReactiveLazyService.constructorThread.get());
+
+        // 생성 이후에는 프록시가 타겟을 바로 호출
+        webTestClient.get().uri("/reactive-lazy")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(String.class).isEqualTo("Reactive Lazy Service Message");
+    }
+
+    @Test
+    @DisplayName("첫 호출의 신호는 boundedElastic에서 전달되어 호출자가 publishOn으로 되돌아와야 하고, 생성 후에는 호출자 스레드에서 전달되는지 확인")
+    void testSchedulerHopOnFirstCall() {
+        Scheduler callerScheduler = Schedulers.newSingle("reactive-caller");
+        try {
+            AtomicReference<String> emittingThread = new AtomicReference<>();
+            String observingThread = reactiveLazyRepository.findName()
+                .doOnNext(name -> emittingThread.set(Thread.currentThread().getName()))
+                .publishOn(callerScheduler)
+                .map(name -> Thread.currentThread().getName())
+                .block(Duration.ofSeconds(5));
+
+            assertTrue(emittingThread.get().startsWith("boundedElastic"),
+                "첫 호출 신호는 boundedElastic 스레드에서 전달됩니다: " + emittingThread.get());
+            assertNotNull(observingThread);
+            assertTrue(observingThread.startsWith("reactive-caller"), "publishOn으로 호출자 스케줄러에 돌아와야 합니다: " + observingThread);
+
+            String callerThread = Thread.currentThread().getName();
+            assertEquals(callerThread, reactiveLazyRepository.findName()
+                .map(name -> Thread.currentThread().getName())
+                .block(Duration.ofSeconds(5)), "생성 후 호출은 스케줄러를 바꾸지 않아야 합니다");
+        } finally {
+            callerScheduler.dispose();
+        }
+    }
+}
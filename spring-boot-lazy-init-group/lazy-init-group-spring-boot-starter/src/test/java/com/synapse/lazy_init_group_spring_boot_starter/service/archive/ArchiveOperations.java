@@ -0,0 +1,8 @@
+package com.synapse.lazy_init_group_spring_boot_starter.service.archive;
+
+public interface ArchiveOperations {
+
+    String archive(String document);
+
+    ClassLoader implementationClassLoader();
+}
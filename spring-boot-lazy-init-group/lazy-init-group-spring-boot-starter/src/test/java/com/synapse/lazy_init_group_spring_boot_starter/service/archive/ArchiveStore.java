@@ -0,0 +1,24 @@
+package com.synapse.lazy_init_group_spring_boot_starter.service.archive;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@LazyInitGroup("archive")
+public class ArchiveStore {
+
+    public static final AtomicInteger instanceCount = new AtomicInteger();
+
+    private final List<String> documents = new CopyOnWriteArrayList<>();
+
+    public ArchiveStore() {
+        instanceCount.incrementAndGet();
+    }
+
+    public int save(String document) {
+        documents.add(document);
+        return documents.size();
+    }
+}
@@ -0,0 +1,25 @@
+package com.synapse.lazy_init_group_spring_boot_starter.service.archive.internal;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import com.synapse.lazy_init_group_spring_boot_starter.service.archive.ArchiveOperations;
+import com.synapse.lazy_init_group_spring_boot_starter.service.archive.ArchiveStore;
+
+@LazyInitGroup("archive")
+public class ArchiveServiceImpl implements ArchiveOperations {
+
+    private final ArchiveStore archiveStore;
+
+    public ArchiveServiceImpl(ArchiveStore archiveStore) {
+        this.archiveStore = archiveStore;
+    }
+
+    @Override
+    public String archive(String document) {
+        return document + "#" + archiveStore.save(document);
+    }
+
+    @Override
+    public ClassLoader implementationClassLoader() {
+        return getClass().getClassLoader();
+    }
+}
@@ -0,0 +1,36 @@
+package com.synapse.lazy_init_group_spring_boot_starter.service.catalog;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.type.AnnotationMetadata;
+
+// 스캔으로 등록되는 그룹 설정 클래스. @Bean 메서드와 등록기를 함께 가지며, 애플리케이션 클래스의 등록기보다 먼저 처리됨
+@Configuration(proxyBeanMethods = false)
+@LazyInitGroup("catalog")
+@Import(CatalogConfiguration.CatalogIndexRegistrar.class)
+public class CatalogConfiguration {
+
+    @Bean
+    public CatalogClient catalogClient() {
+        return new CatalogClient();
+    }
+
+    static class CatalogIndexRegistrar implements ImportBeanDefinitionRegistrar {
+
+        @Override
+        public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+            registry.registerBeanDefinition("catalogIndex", new RootBeanDefinition(CatalogIndex.class));
+        }
+    }
+
+    public static class CatalogClient {
+    }
+
+    public static class CatalogIndex {
+    }
+}
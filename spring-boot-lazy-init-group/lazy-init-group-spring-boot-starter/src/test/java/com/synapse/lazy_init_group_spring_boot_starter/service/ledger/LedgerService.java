@@ -0,0 +1,9 @@
+package com.synapse.lazy_init_group_spring_boot_starter.service.ledger;
+
+// 클래스에는 그룹이 없고 package-info의 그룹을 따름
+public class LedgerService {
+
+    public String balance(String account) {
+        return account + ":0";
+    }
+}
@@ -0,0 +1,9 @@
+package com.synapse.lazy_init_group_spring_boot_starter.service.ledger.audit;
+
+// package-info가 없는 하위 패키지이므로 상위 패키지(ledger)의 그룹을 따름
+public class LedgerAuditService {
+
+    public boolean verify(String account) {
+        return account != null;
+    }
+}
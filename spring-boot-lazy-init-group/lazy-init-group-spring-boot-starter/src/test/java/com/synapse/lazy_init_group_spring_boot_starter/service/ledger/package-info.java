@@ -0,0 +1,4 @@
+@LazyInitGroup("ledger")
+package com.synapse.lazy_init_group_spring_boot_starter.service.ledger;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
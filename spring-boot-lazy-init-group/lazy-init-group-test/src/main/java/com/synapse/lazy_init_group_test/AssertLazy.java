@@ -0,0 +1,19 @@
+package com.synapse.lazy_init_group_test;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 지정한 그룹이 지연 초기화 대상으로 등록되어 있고 컨텍스트 시작 중 그룹 빈이 하나도 생성되지 않았는지 검증
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ExtendWith(LazyInitStartupExtension.class)
+public @interface AssertLazy {
+
+    String[] value();
+}
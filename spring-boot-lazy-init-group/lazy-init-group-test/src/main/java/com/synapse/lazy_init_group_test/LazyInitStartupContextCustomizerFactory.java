@@ -0,0 +1,79 @@
+package com.synapse.lazy_init_group_test;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.test.context.ContextConfigurationAttributes;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.ContextCustomizerFactory;
+import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.test.context.TestContextAnnotationUtils;
+
+import java.util.List;
+
+// @AssertLazy / @StartupBudget 이 붙은 테스트의 컨텍스트에만 리프레시 이전에 시작 통계 수집기를 등록
+public class LazyInitStartupContextCustomizerFactory implements ContextCustomizerFactory {
+
+    @Override
+    public ContextCustomizer createContextCustomizer(Class<?> testClass,
+                                                     List<ContextConfigurationAttributes> configAttributes) {
+        if (TestContextAnnotationUtils.hasAnnotation(testClass, AssertLazy.class)
+            || TestContextAnnotationUtils.hasAnnotation(testClass, StartupBudget.class)) {
+            return new StartupStatsContextCustomizer();
+        }
+        return null;
+    }
+
+    private static final class StartupStatsContextCustomizer implements ContextCustomizer {
+
+        @Override
+        public void customizeContext(ConfigurableApplicationContext context, MergedContextConfiguration mergedConfig) {
+            LazyInitStartupStats stats = new LazyInitStartupStats();
+            ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+            beanFactory.registerSingleton(LazyInitStartupStats.BEAN_NAME, stats);
+            // 인스턴스로 직접 추가하므로 후처리기 빈 자체를 포함해 리프레시 중 생성되는 모든 빈이 집계됨
+            beanFactory.addBeanPostProcessor(new InstantiationCountingPostProcessor(stats));
+            context.addApplicationListener(new StartupCompletedListener(context, stats));
+        }
+
+        // 수집기 설정이 모두 같으므로 컨텍스트 캐시 키에서는 같은 커스터마이저로 취급
+        @Override
+        public boolean equals(Object other) {
+            return other != null && other.getClass() == getClass();
+        }
+
+        @Override
+        public int hashCode() {
+            return getClass().hashCode();
+        }
+    }
+
+    private record InstantiationCountingPostProcessor(LazyInitStartupStats stats) implements InstantiationAwareBeanPostProcessor {
+
+        @Override
+        public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) throws BeansException {
+            stats.beanInstantiated(beanName);
+            return null;
+        }
+    }
+
+    private record StartupCompletedListener(ConfigurableApplicationContext context,
+                                            LazyInitStartupStats stats) implements SmartApplicationListener {
+
+        @Override
+        public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
+            return ContextRefreshedEvent.class.isAssignableFrom(eventType);
+        }
+
+        @Override
+        public void onApplicationEvent(ApplicationEvent event) {
+            if (event instanceof ContextRefreshedEvent refreshedEvent && refreshedEvent.getApplicationContext() == context) {
+                stats.startupCompleted();
+            }
+        }
+    }
+}
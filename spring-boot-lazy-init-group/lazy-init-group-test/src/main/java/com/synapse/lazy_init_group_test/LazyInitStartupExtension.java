@@ -0,0 +1,82 @@
+package com.synapse.lazy_init_group_test;
+
+import com.synapse.lazy_init_group_spring_boot_starter.group.LazyInitGroupRegistry;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.TestContextAnnotationUtils;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+// 테스트 컨텍스트의 시작 통계를 @AssertLazy / @StartupBudget 과 비교하여 어긋나면 클래스 전체를 실패시킴
+public class LazyInitStartupExtension implements BeforeAllCallback {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyInitStartupExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext extensionContext) {
+        Class<?> testClass = extensionContext.getRequiredTestClass();
+        ApplicationContext applicationContext = SpringExtension.getApplicationContext(extensionContext);
+        if (!applicationContext.containsBean(LazyInitStartupStats.BEAN_NAME)) {
+            fail("시작 통계가 수집되지 않았습니다. lazy-init-group-test의 ContextCustomizerFactory가 등록되어 있는지 확인하세요: "
+                 + testClass.getName());
+        }
+
+        LazyInitStartupStats stats = applicationContext.getBean(LazyInitStartupStats.BEAN_NAME, LazyInitStartupStats.class);
+        logger.info("[LAZY-INIT] {} 시작 통계: {}", testClass.getSimpleName(), stats);
+
+        List<String> violations = new ArrayList<>();
+        AssertLazy assertLazy = TestContextAnnotationUtils.findMergedAnnotation(testClass, AssertLazy.class);
+        if (assertLazy != null) {
+            checkLazyGroups(applicationContext, stats, assertLazy.value(), violations);
+        }
+        StartupBudget budget = TestContextAnnotationUtils.findMergedAnnotation(testClass, StartupBudget.class);
+        if (budget != null) {
+            checkBudget(stats, budget, violations);
+        }
+
+        if (!violations.isEmpty()) {
+            fail(testClass.getSimpleName() + " 시작 검증 실패 (" + stats + ")\n - " + String.join("\n - ", violations));
+        }
+    }
+
+    private void checkLazyGroups(ApplicationContext applicationContext, LazyInitStartupStats stats,
+                                 String[] groupNames, List<String> violations) {
+        LazyInitGroupRegistry registry = applicationContext.getBeanProvider(LazyInitGroupRegistry.class).getIfAvailable();
+        for (String groupName : groupNames) {
+            if (registry == null || !registry.containsGroup(groupName)) {
+                violations.add("그룹 '" + groupName + "'이 지연 초기화 대상으로 등록되지 않았습니다");
+                continue;
+            }
+            Set<String> instantiated = stats.getInstantiatedBeanNames();
+            List<String> eagerBeans = registry.getBeanNames(groupName).stream()
+                .filter(instantiated::contains)
+                .sorted()
+                .toList();
+            if (!eagerBeans.isEmpty()) {
+                violations.add("그룹 '" + groupName + "'의 빈이 컨텍스트 시작 중 생성되었습니다: " + eagerBeans);
+            }
+        }
+    }
+
+    private void checkBudget(LazyInitStartupStats stats, StartupBudget budget, List<String> violations) {
+        if (budget.ms() >= 0 && stats.getStartupTime() != null && stats.getStartupTime().toMillis() > budget.ms()) {
+            violations.add("시작 시간 " + stats.getStartupTime().toMillis() + " ms가 예산 " + budget.ms() + " ms를 초과했습니다");
+        }
+        int eagerBeanCount = stats.getInstantiatedBeanNames().size();
+        if (budget.maxEagerBeans() >= 0 && eagerBeanCount > budget.maxEagerBeans()) {
+            violations.add("시작 중 생성된 빈 " + eagerBeanCount + " 개가 예산 " + budget.maxEagerBeans() + " 개를 초과했습니다");
+        }
+        if (budget.maxLoadedClasses() >= 0 && stats.getLoadedClassCount() > budget.maxLoadedClasses()) {
+            violations.add("시작 중 로드된 클래스 " + stats.getLoadedClassCount() + " 개가 예산 "
+                           + budget.maxLoadedClasses() + " 개를 초과했습니다");
+        }
+    }
+}
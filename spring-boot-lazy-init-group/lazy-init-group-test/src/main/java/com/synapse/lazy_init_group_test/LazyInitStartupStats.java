@@ -0,0 +1,69 @@
+package com.synapse.lazy_init_group_test;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// 테스트 컨텍스트 하나의 시작 통계. 컨텍스트가 캐시되어 재사용되어도 최초 시작 시점의 값을 유지
+public class LazyInitStartupStats {
+
+    public static final String BEAN_NAME = "lazyInitStartupStats";
+
+    private static final ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+
+    private final long startNanos = System.nanoTime();
+
+    private final long startLoadedClassCount = classLoading.getTotalLoadedClassCount();
+
+    private final Set<String> instantiatedBeanNames = Collections.synchronizedSet(new LinkedHashSet<>());
+
+    private volatile Duration startupTime;
+
+    private volatile long loadedClassCount = -1;
+
+    private volatile Set<String> startupBeanNames;
+
+    void beanInstantiated(String beanName) {
+        if (startupBeanNames == null) {
+            instantiatedBeanNames.add(beanName);
+        }
+    }
+
+    void startupCompleted() {
+        if (startupBeanNames != null) {
+            return;
+        }
+        startupTime = Duration.ofNanos(System.nanoTime() - startNanos);
+        // 다른 스레드가 동시에 로드한 클래스도 포함되는 JVM 전체 기준 근사값
+        loadedClassCount = classLoading.getTotalLoadedClassCount() - startLoadedClassCount;
+        synchronized (instantiatedBeanNames) {
+            startupBeanNames = Collections.unmodifiableSet(new LinkedHashSet<>(instantiatedBeanNames));
+        }
+    }
+
+    public boolean isStartupCompleted() {
+        return startupBeanNames != null;
+    }
+
+    public Duration getStartupTime() {
+        return startupTime;
+    }
+
+    public long getLoadedClassCount() {
+        return loadedClassCount;
+    }
+
+    public Set<String> getInstantiatedBeanNames() {
+        return startupBeanNames != null ? startupBeanNames : Set.copyOf(instantiatedBeanNames);
+    }
+
+    @Override
+    public String toString() {
+        return "시작 시간 " + (startupTime != null ? startupTime.toMillis() + " ms" : "-")
+            + ", 생성된 빈 " + getInstantiatedBeanNames().size() + " 개"
+            + ", 로드된 클래스 " + loadedClassCount + " 개";
+    }
+}
@@ -0,0 +1,23 @@
+package com.synapse.lazy_init_group_test;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컨텍스트 시작 시간/즉시 생성 빈 수/로드된 클래스 수의 상한. 음수는 검사하지 않음
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ExtendWith(LazyInitStartupExtension.class)
+public @interface StartupBudget {
+
+    long ms() default -1;
+
+    int maxEagerBeans() default -1;
+
+    int maxLoadedClasses() default -1;
+}
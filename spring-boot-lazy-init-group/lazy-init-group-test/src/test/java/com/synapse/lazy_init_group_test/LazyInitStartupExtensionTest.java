@@ -0,0 +1,137 @@
+package com.synapse.lazy_init_group_test;
+
+import com.synapse.lazy_init_group_api.annotation.LazyInitGroup;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+@DisplayName("시작 검증 확장 테스트")
+class LazyInitStartupExtensionTest {
+
+    @Configuration
+    @EnableAutoConfiguration
+    @Import(ReportingService.class)
+    static class StartupTestConfig {
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @Import({ReportingService.class, DashboardService.class})
+    static class EagerDependencyConfig {
+    }
+
+    @LazyInitGroup("reporting")
+    static class ReportingService {
+    }
+
+    // 즉시 초기화 빈이 지연 그룹 빈을 주입받아 그룹이 시작 시점에 생성되는 회귀 상황
+    static class DashboardService {
+
+        DashboardService(ReportingService reportingService) {
+        }
+    }
+
+    // 아래 시나리오는 실패해야 하므로 EngineTestKit으로 DisabledCondition을 끄고 실행할 때만 수행
+    @Disabled("EngineTestKit 전용 시나리오")
+    @SpringBootTest(classes = StartupTestConfig.class)
+    @AssertLazy("reporting")
+    static class GroupNotLazyScenario {
+
+        @Test
+        void run() {
+        }
+    }
+
+    @Disabled("EngineTestKit 전용 시나리오")
+    @SpringBootTest(classes = EagerDependencyConfig.class, properties = "lazy-init.groups=reporting")
+    @AssertLazy("reporting")
+    static class EagerDependencyScenario {
+
+        @Test
+        void run() {
+        }
+    }
+
+    @Disabled("EngineTestKit 전용 시나리오")
+    @SpringBootTest(classes = StartupTestConfig.class, properties = "lazy-init.groups=reporting")
+    @StartupBudget(maxEagerBeans = 1)
+    static class OverBudgetScenario {
+
+        @Test
+        void run() {
+        }
+    }
+
+    private static String runAndGetFailure(Class<?> scenarioClass) {
+        EngineExecutionResults results = EngineTestKit.engine("junit-jupiter")
+            .configurationParameter("junit.jupiter.conditions.deactivate", "org.junit.*DisabledCondition")
+            .selectors(selectClass(scenarioClass))
+            .execute();
+
+        return results.containerEvents().failed().stream()
+            .map(event -> event.getPayload(TestExecutionResult.class)
+                .flatMap(TestExecutionResult::getThrowable)
+                .map(Throwable::getMessage)
+                .orElse(""))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError(scenarioClass.getSimpleName() + " 시나리오가 실패해야 합니다"));
+    }
+
+    @Nested
+    @SpringBootTest(classes = StartupTestConfig.class, properties = "lazy-init.groups=reporting")
+    @AssertLazy("reporting")
+    @StartupBudget(ms = 60_000, maxEagerBeans = 1_000)
+    @DisplayName("예산 안에서 지연 그룹이 유지될 때")
+    class WithinBudgetTest {
+
+        @Autowired
+        private ApplicationContext applicationContext;
+
+        @Test
+        @DisplayName("시작 통계가 수집되고 검증을 통과하는지 확인")
+        void testStatsCollected() {
+            LazyInitStartupStats stats = applicationContext.getBean(LazyInitStartupStats.BEAN_NAME, LazyInitStartupStats.class);
+
+            assertTrue(stats.isStartupCompleted());
+            assertNotNull(stats.getStartupTime());
+            assertFalse(stats.getInstantiatedBeanNames().isEmpty());
+            assertTrue(stats.getLoadedClassCount() >= 0);
+            assertFalse(stats.getInstantiatedBeanNames().contains(ReportingService.class.getName()));
+        }
+    }
+
+    @Test
+    @DisplayName("그룹이 지연 초기화 대상이 아니면 실패하는지 확인")
+    void testFailsWhenGroupNotLazy() {
+        String message = runAndGetFailure(GroupNotLazyScenario.class);
+        assertTrue(message.contains("그룹 'reporting'이 지연 초기화 대상으로 등록되지 않았습니다"), message);
+    }
+
+    @Test
+    @DisplayName("즉시 초기화 빈 때문에 지연 그룹 빈이 시작 중 생성되면 실패하는지 확인")
+    void testFailsWhenLazyGroupBecomesEager() {
+        String message = runAndGetFailure(EagerDependencyScenario.class);
+        assertTrue(message.contains("시작 중 생성되었습니다"), message);
+        assertTrue(message.contains(ReportingService.class.getName()), message);
+    }
+
+    @Test
+    @DisplayName("시작 중 생성된 빈 수가 예산을 넘으면 실패하는지 확인")
+    void testFailsWhenOverBudget() {
+        String message = runAndGetFailure(OverBudgetScenario.class);
+        assertTrue(message.contains("예산 1 개를 초과했습니다"), message);
+    }
+}